@@ -1,11 +1,14 @@
+import java.io.*;
+import java.math.BigInteger;
+import java.nio.file.Path;
 import java.util.*;
 
 // 🧮 ASS1_Fibonacci — Recursive vs Iterative Comparison
 public class ASS1_Fibonacci {
 
-    // Global counter to count the total steps taken in each method
+    // Steps are counted through a SolverMetrics object passed per call
     // (For recursive: counts function calls, for iterative: loop iterations)
-    static int stepCount = 0;
+    // so several threads can run both methods at once without mixing counts.
 
     // ---------------------------------------------------------
     // 🔁 Recursive Fibonacci
@@ -13,12 +16,23 @@ public class ASS1_Fibonacci {
     // Follows the mathematical definition directly:
     // F(n) = F(n-1) + F(n-2), with base cases F(0)=0, F(1)=1
     static int fibonacciRecursive(int n) {
-        stepCount++; // count each recursive call
+        return fibonacciRecursive(n, SolverMetrics.NONE);
+    }
+
+    static int fibonacciRecursive(int n, SolverMetrics metrics) {
+        metrics.start();
+        int result = fibonacciRecursive(n, metrics, 1);
+        metrics.stop();
+        return result;
+    }
+
+    private static int fibonacciRecursive(int n, SolverMetrics metrics, int depth) {
+        metrics.call(depth); // count each recursive call
         if (n <= 1) {
             return n; // base condition
         }
         // Recursive case — call itself twice
-        return fibonacciRecursive(n - 1) + fibonacciRecursive(n - 2);
+        return fibonacciRecursive(n - 1, metrics, depth + 1) + fibonacciRecursive(n - 2, metrics, depth + 1);
     }
 
     // ---------------------------------------------------------
@@ -26,37 +40,256 @@ public class ASS1_Fibonacci {
     // ---------------------------------------------------------
     // Uses loop and only a few variables, avoiding recursion.
     static int fibonacciIterative(int n) {
+        return fibonacciIterative(n, SolverMetrics.NONE);
+    }
+
+    static int fibonacciIterative(int n, SolverMetrics metrics) {
         int a = 0, b = 1, c = 0;
-        stepCount = 0; // reset counter for iterative approach
+        metrics.start();
 
-        if (n == 0)
+        if (n == 0) {
+            metrics.stop();
             return a; // directly return 0
+        }
 
         // Loop from 2 → n to compute next Fibonacci number
         for (int i = 2; i <= n; i++) {
             c = a + b;
             a = b;
             b = c;
-            stepCount++; // count each loop iteration
+            metrics.iteration(); // count each loop iteration
         }
+        metrics.stop();
         return b; // return the final Fibonacci number
     }
 
-    public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+    // ---------------------------------------------------------
+    // ⚡ Fast-Doubling Fibonacci (Exact, BigInteger)
+    // ---------------------------------------------------------
+    // Uses the identities:
+    //   F(2k)   = F(k) * (2*F(k+1) - F(k))
+    //   F(2k+1) = F(k)^2 + F(k+1)^2
+    // Walks the bits of n from the top, so only O(log n) big multiplications
+    // are needed and the result never overflows (unlike the int methods above).
+    static BigInteger fibonacciFastDoubling(long n) {
+        return fibonacciPair(n)[0];
+    }
+
+    static BigInteger fibonacciFastDoubling(long n, SolverMetrics metrics) {
+        return fibonacciPair(n, metrics)[0];
+    }
+
+    // Returns { F(n), F(n+1) } — the pair lets callers keep stepping forward
+    static BigInteger[] fibonacciPair(long n) {
+        return fibonacciPair(n, SolverMetrics.NONE);
+    }
+
+    static BigInteger[] fibonacciPair(long n, SolverMetrics metrics) {
+        if (n < 0)
+            throw new IllegalArgumentException("n must be non-negative: " + n);
+
+        BigInteger a = BigInteger.ZERO; // F(k)
+        BigInteger b = BigInteger.ONE;  // F(k+1)
+
+        metrics.start();
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            metrics.iterations(b.bitLength() >>> 6); // one step multiplies numbers this many words long
+            BigInteger c = a.multiply(b.shiftLeft(1).subtract(a)); // F(2k)
+            BigInteger d = a.multiply(a).add(b.multiply(b));       // F(2k+1)
+            if (((n >>> bit) & 1) == 0) {
+                a = c;
+                b = d;
+            } else {
+                a = d;
+                b = c.add(d);
+            }
+        }
+        metrics.stop();
+        return new BigInteger[] { a, b };
+    }
+
+    // ---------------------------------------------------------
+    // ⚡ Fast-Doubling Fibonacci (Modular, long)
+    // ---------------------------------------------------------
+    // Same doubling walk as above but every value is kept in [0, m),
+    // so it works on plain longs and allocates nothing.
+    static long fibonacciMod(long n, long m) {
+        if (n < 0)
+            throw new IllegalArgumentException("n must be non-negative: " + n);
+        if (m <= 0)
+            throw new IllegalArgumentException("modulus must be positive: " + m);
+        if (m == 1)
+            return 0;
+
+        long a = 0; // F(k) mod m
+        long b = 1; // F(k+1) mod m
+
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; bit--) {
+            long twoBMinusA = addMod(b, b, m) - a;
+            if (twoBMinusA < 0)
+                twoBMinusA += m;
+            long c = mulMod(a, twoBMinusA, m);                 // F(2k)
+            long d = addMod(mulMod(a, a, m), mulMod(b, b, m), m); // F(2k+1)
+            if (((n >>> bit) & 1) == 0) {
+                a = c;
+                b = d;
+            } else {
+                a = d;
+                b = addMod(c, d, m);
+            }
+        }
+        return a;
+    }
+
+    // Gaps up to this are walked one addition at a time; larger ones are jumped
+    static final long STEP_LIMIT = 64;
+
+    // Moves a { F(k), F(k+1) } pair forward by gap → { F(k+gap), F(k+gap+1) }
+    static BigInteger[] fibonacciAdvance(BigInteger[] pair, long gap) {
+        BigInteger a = pair[0]; // F(k)
+        BigInteger b = pair[1]; // F(k+1)
+
+        if (gap <= STEP_LIMIT) {
+            // Close by → just keep adding, like fibonacciIterative
+            for (long i = 0; i < gap; i++) {
+                BigInteger c = a.add(b);
+                a = b;
+                b = c;
+            }
+            return new BigInteger[] { a, b };
+        }
+
+        // Far away → jump with the addition rule
+        //   F(k+d)   = F(k+1)*F(d) + F(k)*F(d-1)
+        //   F(k+d+1) = F(k+1)*F(d+1) + F(k)*F(d)
+        BigInteger[] d = fibonacciPair(gap);
+        BigInteger dPrev = d[1].subtract(d[0]); // F(d-1)
+        return new BigInteger[] {
+            b.multiply(d[0]).add(a.multiply(dPrev)),
+            b.multiply(d[1]).add(a.multiply(d[0]))
+        };
+    }
+
+    // ---------------------------------------------------------
+    // 📦 Batch Fibonacci (many queries, one sweep)
+    // ---------------------------------------------------------
+    // Sorts a copy of the queries, walks the (F(k), F(k+1)) pair upward once
+    // through all distinct n, then maps answers back to the original order.
+    // Total work ≈ O(max n) additions (or O(log gap) jumps) + O(N log N).
+    static BigInteger[] fibonacciBatch(long[] queries) {
+        long[] sorted = queries.clone();
+        Arrays.sort(sorted);
+        if (sorted.length > 0 && sorted[0] < 0)
+            throw new IllegalArgumentException("n must be non-negative: " + sorted[0]);
+
+        // Answer every distinct n in ascending order
+        int distinct = 0;
+        BigInteger[] answers = new BigInteger[sorted.length];
+        BigInteger[] pair = { BigInteger.ZERO, BigInteger.ONE };
+        long current = 0;
+        for (long n : sorted) {
+            if (distinct > 0 && sorted[distinct - 1] == n)
+                continue; // duplicate query → already answered
+            pair = fibonacciAdvance(pair, n - current);
+            current = n;
+            sorted[distinct] = n;
+            answers[distinct++] = pair[0];
+        }
+
+        // Put results back in the caller's order
+        BigInteger[] results = new BigInteger[queries.length];
+        for (int i = 0; i < queries.length; i++) {
+            results[i] = answers[Arrays.binarySearch(sorted, 0, distinct, queries[i])];
+        }
+        return results;
+    }
+
+    // Reads whitespace-separated n values and prints F(n) for each, in input order
+    static void runBatch(FastReader reader, PrintStream out) {
+        long[] queries = new long[16];
+        int count = 0;
+        while (reader.hasNext()) {
+            if (count == queries.length)
+                queries = Arrays.copyOf(queries, count * 2);
+            queries[count++] = reader.nextLong();
+        }
+
+        BigInteger[] results = fibonacciBatch(Arrays.copyOf(queries, count));
+        PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out)));
+        for (BigInteger result : results) {
+            writer.println(result);
+        }
+        writer.flush();
+    }
+
+    // (x + y) mod m for x, y already in [0, m) — written to avoid long overflow
+    static long addMod(long x, long y, long m) {
+        return x >= m - y ? x - (m - y) : x + y;
+    }
+
+    // (x * y) mod m for x, y already in [0, m)
+    // Small moduli multiply directly; large ones use shift-and-add so the
+    // product never overflows a long.
+    static long mulMod(long x, long y, long m) {
+        if (m <= 3037000499L) // sqrt(Long.MAX_VALUE) → x * y fits in a long
+            return x * y % m;
+
+        long result = 0;
+        while (y > 0) {
+            if ((y & 1) == 1)
+                result = addMod(result, x, m);
+            x = addMod(x, x, m);
+            y >>>= 1;
+        }
+        return result;
+    }
+
+    public static void main(String[] args) throws IOException {
+        // Batch mode: java ASS1_Fibonacci --batch [file] [--scanner]  (reads stdin if no file)
+        if (args.length > 0 && args[0].equals("--batch")) {
+            String file = args.length > 1 && !args[1].startsWith("--") ? args[1] : null;
+            FastReader reader;
+            if (file == null)
+                reader = FastReader.of(System.in, args);
+            else if (FastReader.hasFlag(args, "--scanner"))
+                reader = FastReader.scanner(new BufferedInputStream(new FileInputStream(file)));
+            else
+                reader = FastReader.open(Path.of(file), true); // memory-mapped
+            try (reader) {
+                runBatch(reader, System.out);
+            }
+            return;
+        }
+
+        // "--scanner" reads with java.util.Scanner instead of FastReader
+        FastReader reader = FastReader.of(System.in, args);
         System.out.print("Enter n: ");
-        int n = sc.nextInt();
+        int n = reader.nextInt();
 
         // Recursive Result
-        stepCount = 0;
-        int resultRecursive = fibonacciRecursive(n);
+        RunMetrics recursiveMetrics = new RunMetrics();
+        int resultRecursive = fibonacciRecursive(n, recursiveMetrics);
         System.out.println("\nRecursive Fibonacci(" + n + ") = " + resultRecursive);
-        System.out.println("Step Count (Recursive): " + stepCount);
+        System.out.println("Step Count (Recursive): " + recursiveMetrics.calls());
+        System.out.println("Metrics (Recursive): " + recursiveMetrics);
 
         // Iterative Result
-        int resultIterative = fibonacciIterative(n);
+        RunMetrics iterativeMetrics = new RunMetrics();
+        int resultIterative = fibonacciIterative(n, iterativeMetrics);
         System.out.println("\nIterative Fibonacci(" + n + ") = " + resultIterative);
-        System.out.println("Step Count (Iterative): " + stepCount);
+        System.out.println("Step Count (Iterative): " + iterativeMetrics.iterations());
+        System.out.println("Metrics (Iterative): " + iterativeMetrics);
+
+        // Fast-Doubling Result (exact, cross-checks the two methods above)
+        BigInteger resultFast = fibonacciFastDoubling(n);
+        System.out.println("\nFast-Doubling Fibonacci(" + n + ") = " + resultFast);
+        if (n <= 46 && resultFast.intValue() != resultIterative) // F(47) overflows int
+            System.out.println("⚠️ Mismatch with iterative result!");
+
+        // Modular result through the Pisano-period engine (works for n up to 10^18)
+        long modulus = 1_000_000_007L;
+        System.out.println("\nF(" + n + ") mod " + modulus + " = " + PisanoFibonacci.fibonacci(n, modulus)
+                + " (Pisano period " + PisanoFibonacci.forModulus(modulus).period() + ")");
     }
 }
 
@@ -95,7 +328,27 @@ i	a	b	c=a+b	stepCount
 //     → Time Complexity: O(n)
 //     → Space Complexity: O(1)
 //
+// ⚡ Fast-Doubling:
+//     → Time Complexity: O(log n) multiplications
+//     → Space Complexity: O(1) extra values (BigInteger grows with F(n))
+//     → Modular variant: O(log n) time, no allocation
+//
+// 🔁 PisanoFibonacci (F(n) mod m, fixed moduli):
+//     → Setup per modulus: factor m, find the Pisano period π(m)
+//     → π(m) ≤ 2^18: table lookup, O(1) per query
+//     → otherwise: fast doubling on n mod π(m), O(log π(m))
+//
+// 🗂️ FibonacciCache (memoized, shared):
+//     → Warm query: O(1) lookup
+//     → Cold query: steps or jumps from the nearest cached pair
+//     → Space Complexity: O(maxEntries) pairs (LRU eviction)
+//
+// 📦 Batch (N queries, largest = max n):
+//     → Time Complexity: O(max n + N log N)  (one sorted sweep)
+//     → Space Complexity: O(N) results
+//
 // ✅ Iterative method is much faster and memory-friendly.
+// ✅ Fast-doubling is the choice for very large n (10^6 and beyond).
 // =============================================================
 
 
@@ -15,30 +15,61 @@
 // so that earlier slots remain free for other jobs.
 // This greedy choice gives the optimal solution.
 
+import java.nio.file.Path;
 import java.util.*;
 
-// 🔹 Class to represent each Job with its properties
-class Job {
-    char id;       // Job ID (like A, B, C, ...)
-    int deadline;  // Deadline in time slots (1, 2, 3, ...)
-    int profit;    // Profit if job is done within its deadline
-
-    Job(char id, int deadline, int profit) {
-        this.id = id;
-        this.deadline = deadline;
-        this.profit = profit;
+// 🔹 Result of one scheduling run (slot i holds result[i] when slot[i] is true)
+class JobSchedule {
+    final char[] result;    // which job is placed in which slot
+    final boolean[] slot;   // used/free time slots
+    final int countJobs;    // total jobs successfully scheduled
+    final long totalProfit; // total profit collected
+
+    JobSchedule(char[] result, boolean[] slot, int countJobs, long totalProfit) {
+        this.result = result;
+        this.slot = slot;
+        this.countJobs = countJobs;
+        this.totalProfit = totalProfit;
     }
 }
 
 public class ASS2_JobSequencingGreedy {
 
+    // How a job finds its latest free slot
+    enum SlotFinder {
+        LINEAR_SCAN,  // walk backwards over slot[] → O(maxDeadline) per job (baseline)
+        DISJOINT_SET  // union-find "latest free slot" → O(log n) amortized per job
+    }
+
     // ✅ Main function to find the sequence of jobs that maximizes total profit
     public static void jobSequencing(Job[] jobs) {
-        int n = jobs.length;
+        jobSequencing(jobs, SlotFinder.DISJOINT_SET, SolverMetrics.NONE);
+    }
+
+    // Same as above, with a choice of slot finder, reporting each slot check into metrics
+    public static void jobSequencing(Job[] jobs, SlotFinder finder, SolverMetrics metrics) {
+        JobSchedule schedule = scheduleJobs(jobs, finder, metrics);
+
+        // Step 5️⃣: Display the results
+        System.out.print("\n✅ Job Sequence (Optimal Order): ");
+        for (int i = 0; i < schedule.slot.length; i++) {
+            if (schedule.slot[i]) {
+                System.out.print(schedule.result[i] + " ");
+            }
+        }
+
+        System.out.println("\nTotal Jobs Done: " + schedule.countJobs);
+        System.out.println("Total Profit: " + schedule.totalProfit);
+    }
+
+    // Runs the greedy and returns the schedule without printing it
+    static JobSchedule scheduleJobs(Job[] jobs, SlotFinder finder, SolverMetrics metrics) {
+        metrics.start();
 
         // Step 1️⃣: Sort all jobs by profit (descending)
         // We pick most profitable jobs first to avoid missing high-profit tasks.
-        Arrays.sort(jobs, (a, b) -> b.profit - a.profit);
+        // (Integer.compare instead of b.profit - a.profit, which overflows for large profits)
+        Arrays.sort(jobs, (a, b) -> Integer.compare(b.profit, a.profit));
 
         // Step 2️⃣: Find the maximum deadline value
         // This gives us the number of available time slots.
@@ -52,15 +83,37 @@ public class ASS2_JobSequencingGreedy {
         boolean[] slot = new boolean[maxDeadline]; // keeps track of used/free time slots
         Arrays.fill(slot, false);                  // initially all time slots are free
 
-        int totalProfit = 0; // total profit collected
-        int countJobs = 0;   // total jobs successfully scheduled
+        // Step 4️⃣: Schedule each job one by one (starting from highest profit)
+        JobSchedule schedule = finder == SlotFinder.DISJOINT_SET
+                ? placeWithDisjointSet(jobs, result, slot, metrics)
+                : placeWithLinearScan(jobs, result, slot, metrics);
+
+        metrics.stop();
+        return schedule;
+    }
+
+    // Columnar batches: parallel = radix sort on all cores, then the same placement.
+    // Both choices give the same job in every slot.
+    static JobBatch.Schedule scheduleBatch(JobBatch batch, boolean parallel, SolverMetrics metrics) {
+        if (!parallel)
+            return batch.schedule(metrics);
+        try (ParallelJobScheduler scheduler = new ParallelJobScheduler(Runtime.getRuntime().availableProcessors())) {
+            return scheduler.schedule(batch, metrics);
+        }
+    }
+
+    // Baseline: try each slot from the deadline backwards until a free one is found
+    private static JobSchedule placeWithLinearScan(Job[] jobs, char[] result, boolean[] slot,
+                                                   SolverMetrics metrics) {
+        int maxDeadline = slot.length;
+        long totalProfit = 0; // total profit collected
+        int countJobs = 0;    // total jobs successfully scheduled
 
-        // Step 4️⃣: Schedule each job one by one
-        // For each job (starting from highest profit):
         for (Job job : jobs) {
             // Try to place job in its latest available slot before deadline
             // Example: if job deadline=3, check slot 2, then 1, then 0 (0-based)
             for (int j = Math.min(maxDeadline, job.deadline) - 1; j >= 0; j--) {
+                metrics.iteration(); // count each slot check
                 if (!slot[j]) { // if this slot is free
                     slot[j] = true;       // mark slot as occupied
                     result[j] = job.id;   // store job in result array
@@ -70,38 +123,94 @@ public class ASS2_JobSequencingGreedy {
                 }
             }
         }
+        return new JobSchedule(result, slot, countJobs, totalProfit);
+    }
 
-        // Step 5️⃣: Display the results
-        System.out.print("\n✅ Job Sequence (Optimal Order): ");
-        for (int i = 0; i < maxDeadline; i++) {
-            if (slot[i]) {
-                System.out.print(result[i] + " ");
-            }
+    // Union-find: latest[t] points towards the latest free slot ≤ t (1-based, 0 = none).
+    // When slot t gets filled we link it to t-1, and path halving keeps
+    // later lookups short → O(n log n) total instead of O(n * maxDeadline).
+    // (The link direction is forced — a slot must point left — so there is no
+    // union by rank, and path halving alone gives O(log n) amortized per find,
+    // not the O(α(n)) of rank + compression. In practice chains stay short.)
+    private static JobSchedule placeWithDisjointSet(Job[] jobs, char[] result, boolean[] slot,
+                                                    SolverMetrics metrics) {
+        int[] latest = new int[slot.length + 1];
+        for (int t = 0; t < latest.length; t++) {
+            latest[t] = t; // every slot starts free and is its own root
         }
 
-        System.out.println("\nTotal Jobs Done: " + countJobs);
-        System.out.println("Total Profit: " + totalProfit);
+        long totalProfit = 0;
+        int countJobs = 0;
+
+        for (Job job : jobs) {
+            if (job.deadline <= 0)
+                continue; // already past its deadline
+            int free = findLatestFree(latest, Math.min(slot.length, job.deadline), metrics);
+            if (free == 0)
+                continue; // no free slot before this deadline → skip job
+
+            slot[free - 1] = true;     // slots are 1-based here, 0-based in slot[]
+            result[free - 1] = job.id;
+            latest[free] = free - 1;   // next search from here falls to the slot before
+            totalProfit += job.profit;
+            countJobs++;
+        }
+        return new JobSchedule(result, slot, countJobs, totalProfit);
+    }
+
+    // Root of t with path halving (each visited node skips to its grandparent)
+    static int findLatestFree(int[] latest, int t, SolverMetrics metrics) {
+        while (latest[t] != t) {
+            metrics.iteration(); // count each link followed
+            latest[t] = latest[latest[t]];
+            t = latest[t];
+        }
+        return t;
     }
 
     // Input and Execution
     public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+        // Binary columnar input (see ColumnarFile): java ASS2_JobSequencingGreedy --binary jobs.bin [--parallel]
+        String binary = FastReader.option(args, "--binary");
+        if (binary != null) {
+            JobBatch batch;
+            try (ColumnarFile file = ColumnarFile.open(Path.of(binary))) {
+                batch = file.toJobBatch();
+            }
+            RunMetrics metrics = new RunMetrics();
+            JobBatch.Schedule schedule = scheduleBatch(batch, FastReader.hasFlag(args, "--parallel"), metrics);
+            System.out.println("Jobs: " + batch.size());
+            System.out.println("Total Jobs Done: " + schedule.countJobs);
+            System.out.println("Total Profit: " + schedule.totalProfit);
+            System.out.println("Metrics: " + metrics);
+            return;
+        }
+
+        // "--scanner" reads with java.util.Scanner instead of FastReader
+        FastReader reader = FastReader.of(System.in, args);
 
         System.out.print("Enter number of jobs: ");
-        int n = sc.nextInt();
+        int n = reader.nextInt();
 
         Job[] jobs = new Job[n];
         for (int i = 0; i < n; i++) {
             System.out.println("\nEnter details for Job " + (char) ('A' + i));
             System.out.print("Deadline: ");
-            int deadline = sc.nextInt();
+            int deadline = reader.nextInt();
             System.out.print("Profit: ");
-            int profit = sc.nextInt();
+            int profit = reader.nextInt();
             jobs[i] = new Job((char) ('A' + i), deadline, profit);
         }
 
-        jobSequencing(jobs);
-        sc.close();
+        // "--linear" keeps the original backwards slot scan for comparison
+        SlotFinder finder = FastReader.hasFlag(args, "--linear")
+                ? SlotFinder.LINEAR_SCAN
+                : SlotFinder.DISJOINT_SET;
+
+        RunMetrics metrics = new RunMetrics();
+        jobSequencing(jobs, finder, metrics);
+        System.out.println("Metrics: " + metrics);
+        reader.close();
     }
 }
 
@@ -146,6 +255,14 @@ Time Complexity:
 
 So, overall ≈ O(n²) when deadlines ≈ n.
 
+With the disjoint-set slot finder (default):
+👉 O(n log n) sort + O(n log n) amortized placement
+   (path halving without union by rank; usually far below that bound).
+
+JobBatch (columnar, for millions of jobs):
+👉 O(n) radix sort on profit + O(n log n) amortized placement, no per-job objects.
+👉 ParallelJobScheduler sorts on all cores, then places sequentially; same schedule.
+
 Space Complexity:
 👉 O(maxDeadline) for slot[] and result[] arrays.
 
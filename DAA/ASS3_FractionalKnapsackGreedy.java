@@ -16,23 +16,9 @@ Greedy logic used:
 */
 
 
+import java.nio.file.Path;
 import java.util.*;
 
-// 🔹 Class to represent each item
-class Item {
-    int weight;     // weight of the item
-    int profit;     // profit/value of the item
-    double ratio;   // profit/weight ratio (used for greedy selection)
-
-    // Constructor to initialize an item
-    Item(int weight, int profit) {
-        this.weight = weight;
-        this.profit = profit;
-        // compute profit/weight ratio (for greedy sorting)
-        this.ratio = (double) profit / weight;
-    }
-}
-
 public class ASS3_FractionalKnapsackGreedy {
 
     /*
@@ -49,15 +35,22 @@ public class ASS3_FractionalKnapsackGreedy {
      * 4️⃣ Return total profit.
      */
     public static double getMaxProfit(Item[] items, int capacity) {
+        return getMaxProfit(items, capacity, SolverMetrics.NONE);
+    }
+
+    // Same as above, reporting each item visited into metrics
+    public static double getMaxProfit(Item[] items, int capacity, SolverMetrics metrics) {
+        metrics.start();
 
         // 1) Sort items in descending order of ratio
         Arrays.sort(items, (a, b) -> Double.compare(b.ratio, a.ratio));
 
         double totalProfit = 0.0; // total profit collected so far
-        int currentWeight = 0;    // total weight used in knapsack
+        long currentWeight = 0;   // total weight used in knapsack (long → no overflow)
 
         // 2) Loop through sorted items
         for (Item item : items) {
+            metrics.iteration(); // count each item visited
 
             // ✅ Case 1: If item fully fits, take all of it
             if (currentWeight + item.weight <= capacity) {
@@ -66,7 +59,7 @@ public class ASS3_FractionalKnapsackGreedy {
             } 
             // ⚠️ Case 2: If only part fits, take fractional part and stop
             else {
-                int remaining = capacity - currentWeight; // remaining space in bag
+                long remaining = capacity - currentWeight; // remaining space in bag
                 if (remaining > 0) {
                     totalProfit += item.ratio * remaining; // take fraction
                 }
@@ -74,37 +67,169 @@ public class ASS3_FractionalKnapsackGreedy {
             }
         }
 
+        metrics.stop();
         return totalProfit;
     }
 
+    /*
+     * Function: getFractions()
+     * ------------------------
+     * Same answer as getMaxProfit(), but in expected O(n) time and without
+     * touching the order of the caller's array. Returns how much of each
+     * item is taken (1.0 = whole item, 0.0 = none), index by index.
+     *
+     * Only the "split item" and the items with a better ratio matter, so
+     * instead of sorting we partition around a random pivot ratio
+     * (like quickselect):
+     *   → weight of better items > capacity → the split is among them, recurse there
+     *   → otherwise take all better items (and equal ones, if they fit),
+     *     then recurse into the worse ones with the capacity left.
+     * Each round throws away a constant fraction of items on average → O(n).
+     */
+    public static double[] getFractions(Item[] items, long capacity) {
+        long[] weight = new long[items.length]; // primitive copies → no object hops in the loop
+        long[] profit = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            weight[i] = items[i].weight;
+            profit[i] = items[i].profit;
+        }
+        return getFractions(weight, profit, capacity);
+    }
+
+    // Same, on columns (e.g. straight from a ColumnarFile) → no Item objects at all
+    public static double[] getFractions(long[] weight, long[] profit, long capacity) {
+        int n = weight.length;
+        double[] fractions = new double[n];
+        double[] ratio = new double[n];
+        int[] candidates = new int[n];  // indices still undecided, in [lo, hi)
+
+        int hi = 0;
+        for (int i = 0; i < n; i++) {
+            if (weight[i] <= 0) {
+                fractions[i] = 1.0; // weightless item → always take it
+                continue;
+            }
+            ratio[i] = (double) profit[i] / weight[i];
+            candidates[hi++] = i;
+        }
+
+        Random random = new Random(n);
+        int lo = 0;
+        long remaining = capacity;
+        while (lo < hi && remaining > 0) {
+            double pivot = ratio[candidates[lo + random.nextInt(hi - lo)]];
+
+            // 3-way partition: [lo, better) > pivot, [better, worse) == pivot, [worse, hi) < pivot
+            int better = lo, i = lo, worse = hi;
+            while (i < worse) {
+                int c = candidates[i];
+                if (ratio[c] > pivot) {
+                    candidates[i++] = candidates[better];
+                    candidates[better++] = c;
+                } else if (ratio[c] < pivot) {
+                    candidates[i] = candidates[--worse];
+                    candidates[worse] = c;
+                } else {
+                    i++;
+                }
+            }
+
+            long betterWeight = 0;
+            for (int k = lo; k < better; k++) {
+                betterWeight += weight[candidates[k]];
+            }
+            if (betterWeight > remaining) {
+                hi = better; // split item has a better ratio than the pivot
+                continue;
+            }
+
+            // ✅ All better items fit → take them whole
+            for (int k = lo; k < better; k++) {
+                fractions[candidates[k]] = 1.0;
+            }
+            remaining -= betterWeight;
+
+            // Items equal to the pivot: take whole while they fit, then a fraction
+            for (int k = better; k < worse && remaining > 0; k++) {
+                int c = candidates[k];
+                if (weight[c] <= remaining) {
+                    fractions[c] = 1.0;
+                    remaining -= weight[c];
+                } else {
+                    fractions[c] = (double) remaining / weight[c];
+                    remaining = 0;
+                }
+            }
+            lo = worse; // continue with the worse items
+        }
+        return fractions;
+    }
+
+    // Total profit of a fractions[] answer
+    public static double profitOf(Item[] items, double[] fractions) {
+        double total = 0.0;
+        for (int i = 0; i < items.length; i++) {
+            total += fractions[i] * items[i].profit;
+        }
+        return total;
+    }
+
+    public static double profitOf(long[] profit, double[] fractions) {
+        double total = 0.0;
+        for (int i = 0; i < profit.length; i++) {
+            total += fractions[i] * profit[i];
+        }
+        return total;
+    }
+
     public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+        // Binary columnar input (see ColumnarFile): java ASS3_FractionalKnapsackGreedy --binary items.bin
+        String binary = FastReader.option(args, "--binary");
+        if (binary != null) {
+            try (ColumnarFile file = ColumnarFile.open(Path.of(binary))) {
+                long[] profit = file.profitsAsLong();
+                double[] fractions = getFractions(file.weightsAsLong(), profit, file.capacity());
+                System.out.println("Items: " + file.size() + ", Capacity: " + file.capacity());
+                System.out.println("Maximum Profit = " + profitOf(profit, fractions));
+            }
+            return;
+        }
+
+        // "--scanner" reads with java.util.Scanner instead of FastReader
+        FastReader reader = FastReader.of(System.in, args);
 
         // Input: number of items
         System.out.print("Enter number of items: ");
-        int n = sc.nextInt();
+        int n = reader.nextInt();
 
         Item[] items = new Item[n];
 
         // Input: weight and profit for each item
         for (int i = 0; i < n; i++) {
             System.out.println("\nEnter weight and profit of item " + (i + 1) + ":");
-            int weight = sc.nextInt();
-            int profit = sc.nextInt();
+            int weight = reader.nextInt();
+            int profit = reader.nextInt();
             items[i] = new Item(weight, profit);
         }
 
         // Input: knapsack capacity
         System.out.print("\nEnter knapsack capacity: ");
-        int capacity = sc.nextInt();
+        int capacity = reader.nextInt();
+
+        // Linear-time solver (run first, since getMaxProfit re-sorts items)
+        double[] fractions = getFractions(items, capacity);
+        double linearProfit = profitOf(items, fractions);
 
         // Function call to calculate max profit
-        double maxProfit = getMaxProfit(items, capacity);
+        RunMetrics metrics = new RunMetrics();
+        double maxProfit = getMaxProfit(items, capacity, metrics);
 
         // Output final answer
         System.out.println("\nMaximum Profit = " + maxProfit);
+        System.out.println("Metrics: " + metrics);
+        System.out.println("Linear-Time Profit = " + linearProfit);
 
-        sc.close();
+        reader.close();
     }
 }
 
@@ -144,6 +269,17 @@ Space Complexity:
 👉 O(1) auxiliary (ignoring input array)
    → Sorting in-place uses small constant space
    → Otherwise no extra major data structure used.
+
+FractionalKnapsackIndex (same items, many capacities):
+👉 O(n log n) once, then O(log n) per capacity
+   → bulk queries: O(Q log Q + n) in one sweep
+
+DynamicFractionalKnapsack (items added / removed / repriced):
+👉 O(log n) expected per put, remove and capacity query (treap)
+
+getFractions() (quickselect / weighted median):
+👉 Expected O(n) time, O(n) extra space for primitive copies
+   → input array order is left untouched
 =====================================================
 */
 
@@ -1,4 +1,6 @@
+import java.nio.file.Path;
 import java.util.*;
+import java.util.stream.IntStream;
 
 public class ASS4_01KnapsackDP {
 
@@ -20,7 +22,23 @@ public class ASS4_01KnapsackDP {
        This method is efficient and ensures the best (optimal) solution.
     */
 
+    // Largest DP table (in bytes) a solver here allocates unless the call
+    // passes its own budget: -Dknapsack.memory.mb=N, else half the heap.
+    // Checked before allocating, so a huge W fails fast with a clear
+    // message instead of an OutOfMemoryError halfway through.
+    static final long DEFAULT_MEMORY_BUDGET_BYTES =
+            Long.getLong("knapsack.memory.mb", Runtime.getRuntime().maxMemory() / 2 >> 20) << 20;
+
     static int knapSack(int W, int wt[], int val[], int n) {
+        return knapSack(W, wt, val, n, SolverMetrics.NONE);
+    }
+
+    // Same as above, reporting the number of table cells filled into metrics
+    static int knapSack(int W, int wt[], int val[], int n, SolverMetrics metrics) {
+        checkCapacity(W);
+        checkMemoryBudget((n + 1L) * (W + 1L), Integer.BYTES, "2-D table");
+        metrics.start();
+
         /*
          dp[i][w] means:
          → The maximum profit we can get using the first 'i' items
@@ -57,19 +75,463 @@ public class ASS4_01KnapsackDP {
                     dp[i][w] = dp[i - 1][w];
                 }
             }
+            metrics.iterations(W + 1); // one row of cells filled
         }
+        metrics.stop();
 
         // ✅ Final Answer:
         // dp[n][W] holds the maximum profit for all items and given capacity.
         return dp[n][W];
     }
 
+    /*
+     🧩 Space-Optimized (1-D) Knapsack
+     ---------------------------------
+     Row i of the table only reads row i-1, so one array is enough:
+         dp[w] = max(dp[w], val[i] + dp[w - wt[i]])
+     Capacity is walked BACKWARD (W → wt[i]) so dp[w - wt[i]] still holds the
+     previous row's value → each item is used at most once.
+     Memory: O(W) instead of O(n * W). Values are longs, so large totals
+     don't overflow. Returns only the best profit (no item list).
+    */
+    static long knapSackRolling(int W, int wt[], int val[], int n) {
+        return knapSackRolling(W, wt, val, n, SolverMetrics.NONE);
+    }
+
+    static long knapSackRolling(int W, int wt[], int val[], int n, SolverMetrics metrics) {
+        checkCapacity(W);
+        checkMemoryBudget(W + 1L, Long.BYTES, "1-D row");
+        metrics.start();
+
+        long dp[] = new long[W + 1]; // dp[w] = best profit with capacity w so far
+
+        for (int i = 0; i < n; i++) {
+            int weight = wt[i];
+            long value = val[i];
+            for (int w = W; w >= weight; w--) { // backward → item i used once
+                long include = value + dp[w - weight];
+                if (include > dp[w])
+                    dp[w] = include;
+            }
+            metrics.iterations(Math.max(0, W - weight + 1));
+        }
+        metrics.stop();
+        return dp[W];
+    }
+
+    /*
+     🧵 Parallel Row-by-Row Knapsack
+     -------------------------------
+     Every cell of row i reads only row i-1, so one row can be cut into
+     capacity blocks filled by different cores at the same time. Two rows
+     (previous, current) are swapped after each item; finishing the parallel
+     loop for a row is the barrier before the next item starts.
+     Block size adapts to the row: roughly 4 blocks per core, but never below
+     MIN_PARALLEL_BLOCK cells so each task does real work. Rows smaller than
+     PARALLEL_THRESHOLD use the plain 1-D loop (no thread hand-off cost).
+    */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+    static final int MIN_PARALLEL_BLOCK = 1 << 13;
+
+    static long knapSackParallel(int W, int wt[], int val[], int n) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        if (W + 1 < PARALLEL_THRESHOLD || cores == 1)
+            return knapSackRolling(W, wt, val, n);
+
+        checkMemoryBudget(2 * (W + 1L), Long.BYTES, "parallel rows");
+        long prev[] = new long[W + 1];
+        long cur[] = new long[W + 1];
+        int blocks = (int) Math.max(1, Math.min(4L * cores, (W + 1L) / MIN_PARALLEL_BLOCK));
+        int blockSize = (W + blocks) / blocks; // ceil((W + 1) / blocks)
+
+        for (int i = 0; i < n; i++) {
+            final int weight = wt[i];
+            final long value = val[i];
+            final long[] before = prev;
+            final long[] after = cur;
+            IntStream.range(0, blocks).parallel().forEach(b -> {
+                int from = b * blockSize;
+                int to = Math.min(W + 1, from + blockSize);
+                for (int w = from; w < to; w++) {
+                    long best = before[w];             // exclude item i
+                    if (weight <= w) {
+                        long include = value + before[w - weight];
+                        if (include > best)
+                            best = include;            // include item i
+                    }
+                    after[w] = best;
+                }
+            });
+            prev = after; // this row becomes the previous one for the next item
+            cur = before;
+        }
+        return prev[W];
+    }
+
+    /*
+     🧭 Item Reconstruction in O(W) Memory (Hirschberg-style)
+     --------------------------------------------------------
+     Backtracking needs the full (n+1) x (W+1) table. Instead, split items in half:
+       → 1-D DP over the left half:  f[c] = best profit using capacity c
+       → 1-D DP over the right half: g[c] = best profit using capacity c
+       → the best split c* maximizes f[c] + g[W - c]
+     Then solve the left half with capacity c* and the right half with W - c*.
+     Each recursion level costs about n * W / 2 cells in total, so the whole
+     thing is ≈ 2x the value-only DP, using O(W) memory + O(log n) stack.
+    */
+    static KnapsackSolution knapSackWithItems(int W, int wt[], int val[], int n) {
+        return knapSackWithItems(W, wt, val, n, DEFAULT_MEMORY_BUDGET_BYTES);
+    }
+
+    static KnapsackSolution knapSackWithItems(int W, int wt[], int val[], int n, long budgetBytes) {
+        checkCapacity(W);
+        checkMemoryBudget(2 * (W + 1L), Long.BYTES, "split rows", budgetBytes);
+        int[] chosen = new int[n];
+        int count = chooseItems(W, wt, val, 0, n, chosen, 0);
+
+        long profit = 0;
+        for (int k = 0; k < count; k++) {
+            profit += val[chosen[k]];
+        }
+        return new KnapsackSolution(profit, Arrays.copyOf(chosen, count));
+    }
+
+    // Writes the chosen indices of items [from, to) into chosen[count..]; returns the new count
+    private static int chooseItems(int W, int wt[], int val[], int from, int to, int[] chosen, int count) {
+        if (from >= to)
+            return count;
+        if (to - from == 1) {
+            // one item left → take it if it fits and helps
+            if (wt[from] <= W && val[from] > 0)
+                chosen[count++] = from;
+            return count;
+        }
+
+        int mid = (from + to) >>> 1;
+        long[] left = new long[W + 1];
+        long[] right = new long[W + 1];
+        fillRow(left, W, wt, val, from, mid);
+        fillRow(right, W, wt, val, mid, to);
+
+        // Best way to share capacity W between the two halves
+        int split = 0;
+        long best = Long.MIN_VALUE;
+        for (int c = 0; c <= W; c++) {
+            long total = left[c] + right[W - c];
+            if (total > best) {
+                best = total;
+                split = c;
+            }
+        }
+        left = null; // drop the rows before recursing → O(W) live memory
+        right = null;
+
+        count = chooseItems(split, wt, val, from, mid, chosen, count);
+        return chooseItems(W - split, wt, val, mid, to, chosen, count);
+    }
+
+    // 1-D DP over items [from, to) into dp[0..W] (dp starts at all zeros)
+    private static void fillRow(long dp[], int W, int wt[], int val[], int from, int to) {
+        for (int i = from; i < to; i++) {
+            int weight = wt[i];
+            long value = val[i];
+            for (int w = W; w >= weight; w--) {
+                long include = value + dp[w - weight];
+                if (include > dp[w])
+                    dp[w] = include;
+            }
+        }
+    }
+
+    /*
+     🧮 Bitset Subset-Sum (profit == weight)
+     ---------------------------------------
+     When every item's profit equals its weight, the question is only
+     "which total weights can be made?". Keep that as bits of long[] words:
+         bit w is 1  ⇔  some subset weighs exactly w
+     Adding an item of weight x is one shift-and-OR over the whole bitset:
+         reach |= reach << x
+     → 64 capacities per machine word instead of one int per cell.
+    */
+    static long[] reachableWeights(int W, int wt[], int n) {
+        checkCapacity(W);
+        int words = (W >>> 6) + 1;
+        checkMemoryBudget(words, Long.BYTES, "bitset");
+
+        long bits[] = new long[words];
+        bits[0] = 1L; // the empty subset weighs 0
+        long highest = 0; // heaviest weight reachable so far (≤ W) → limits each pass
+
+        for (int i = 0; i < n; i++) {
+            int x = wt[i];
+            if (x <= 0 || x > W)
+                continue; // weightless items add nothing new; too-heavy ones never fit
+            highest = Math.min(W, highest + x);
+            int wordShift = x >>> 6;
+            int bitShift = x & 63;
+
+            // high words first, so every read still sees the bitset before this item
+            for (int k = (int) (highest >>> 6); k >= wordShift; k--) {
+                int from = k - wordShift;
+                long moved = bits[from] << bitShift;
+                if (bitShift != 0 && from > 0)
+                    moved |= bits[from - 1] >>> (64 - bitShift);
+                bits[k] |= moved;
+            }
+        }
+        bits[words - 1] &= -1L >>> (63 - (W & 63)); // forget sums above W
+        return bits;
+    }
+
+    // Heaviest total weight ≤ W that some subset reaches exactly
+    static int maxReachableWeight(int W, int wt[], int n) {
+        long bits[] = reachableWeights(W, wt, n);
+        for (int k = bits.length - 1; k >= 0; k--) {
+            if (bits[k] != 0)
+                return k * 64 + 63 - Long.numberOfLeadingZeros(bits[k]);
+        }
+        return 0;
+    }
+
+    // Can some subset weigh exactly W?
+    static boolean isReachable(int W, int wt[], int n) {
+        long bits[] = reachableWeights(W, wt, n);
+        return (bits[W >>> 6] >>> (W & 63) & 1L) != 0;
+    }
+
+    /*
+     💰 Profit-Indexed (Dual) Knapsack
+     ---------------------------------
+     When W is huge but the total profit P = Σ val is moderate, flip the table:
+         minWeight[p] = lightest set of items with profit exactly p
+     Same backward 1-D loop as before, but over profit instead of capacity:
+         minWeight[p] = min(minWeight[p], wt[i] + minWeight[p - val[i]])
+     Answer = largest p with minWeight[p] ≤ W.
+     Time O(n * P), memory O(P) — W only appears in the final comparison.
+    */
+    static long knapSackByProfit(long W, int wt[], int val[], int n) {
+        return minWeightDp(W, wt, val, val, n);
+    }
+
+    /*
+     ⚡ FPTAS (approximate, guaranteed within ε)
+     -------------------------------------------
+     Scale profits down: K = ε * maxProfit / n, scaled[i] = val[i] / K (rounded down).
+     Run the profit-indexed DP on the scaled profits (total ≤ n² / ε → fast),
+     keeping the REAL profit of each chosen set alongside.
+     Rounding loses < K per item, so the answer is ≥ (1 - ε) * optimum.
+    */
+    static long knapSackApprox(long W, int wt[], int val[], int n, double epsilon) {
+        if (!(epsilon > 0 && epsilon < 1))
+            throw new IllegalArgumentException("epsilon must be in (0, 1): " + epsilon);
+
+        long maxProfit = 0;
+        for (int i = 0; i < n; i++) {
+            if (wt[i] <= W)
+                maxProfit = Math.max(maxProfit, val[i]); // only items that can fit matter
+        }
+        double K = epsilon * maxProfit / Math.max(1, n);
+        if (K <= 1)
+            return knapSackByProfit(W, wt, val, n); // scaling wouldn't shrink anything
+
+        int scaled[] = new int[n];
+        for (int i = 0; i < n; i++) {
+            scaled[i] = val[i] > 0 ? (int) (val[i] / K) : 0;
+        }
+        return minWeightDp(W, wt, scaled, val, n);
+    }
+
+    // minWeight over 'index' profits, tracking the real profit of each chosen set
+    private static long minWeightDp(long W, int wt[], int index[], int val[], int n) {
+        long total = 0;
+        for (int i = 0; i < n; i++) {
+            if (index[i] > 0 && wt[i] <= W)
+                total += index[i];
+        }
+        checkMemoryBudget(2 * (total + 1), Long.BYTES, "profit-indexed rows");
+
+        int P = (int) total;
+        long minWeight[] = new long[P + 1]; // lightest set with index-profit p
+        long realProfit[] = new long[P + 1]; // real profit of that set
+        Arrays.fill(minWeight, Long.MAX_VALUE); // MAX = "can't make this profit"
+        minWeight[0] = 0;
+
+        int reach = 0; // highest index-profit reachable so far → limits the loop
+        for (int i = 0; i < n; i++) {
+            int p = index[i];
+            if (wt[i] > W || val[i] <= 0)
+                continue; // never fits, or never helps
+            reach += p;
+            for (int q = reach; q >= p; q--) { // backward → item i used once
+                long before = minWeight[q - p];
+                if (before == Long.MAX_VALUE)
+                    continue;
+                long weight = before + wt[i];
+                long profit = realProfit[q - p] + val[i];
+                if (weight < minWeight[q] || (weight == minWeight[q] && profit > realProfit[q])) {
+                    minWeight[q] = weight;
+                    realProfit[q] = profit;
+                }
+            }
+        }
+
+        long best = 0;
+        for (int q = 0; q <= P; q++) {
+            if (minWeight[q] <= W)
+                best = Math.max(best, realProfit[q]);
+        }
+        return best;
+    }
+
+    /*
+     📦 Bounded Knapsack (item i available count[i] times)
+     -----------------------------------------------------
+     Copying item i count[i] times into wt[]/val[] makes n explode.
+     Binary splitting instead: count c = 1 + 2 + 4 + ... + rest, so
+     pseudo-items of 1, 2, 4, ..., rest copies can build every amount 0..c
+     → O(log c) 0/1 items per item, then the usual backward 1-D loop.
+     If the copies alone could fill the bag (c * wt ≥ W) the count never
+     binds → one forward (unbounded) pass of O(W) instead.
+     Time O(W * Σ log count[i]), memory O(W).
+    */
+    static long knapSackBounded(int W, int wt[], int val[], int count[], int n) {
+        return knapSackBounded(W, wt, val, count, n, SolverMetrics.NONE);
+    }
+
+    static long knapSackBounded(int W, int wt[], int val[], int count[], int n, SolverMetrics metrics) {
+        checkCapacity(W);
+        checkMemoryBudget(W + 1L, Long.BYTES, "1-D row");
+        metrics.start();
+
+        long dp[] = new long[W + 1];
+        for (int i = 0; i < n; i++) {
+            if (count[i] < 0 || wt[i] < 0)
+                throw new IllegalArgumentException("negative count or weight at item " + i);
+            if (wt[i] > 0 && (long) count[i] * wt[i] >= W) {
+                addUnbounded(dp, W, wt[i], val[i]);
+                metrics.iterations(W - wt[i] + 1L);
+                continue;
+            }
+            // pseudo-items of 1, 2, 4, ... copies, then whatever is left
+            int left = count[i];
+            for (int copies = 1; left > 0; copies <<= 1) {
+                int take = Math.min(copies, left);
+                left -= take;
+                long weight = (long) take * wt[i]; // < W here, so fits an int
+                long value = (long) take * val[i];
+                for (int w = W; w >= weight; w--) { // backward → pseudo-item used once
+                    long include = value + dp[(int) (w - weight)];
+                    if (include > dp[w])
+                        dp[w] = include;
+                }
+                metrics.iterations(Math.max(0, W - weight + 1));
+            }
+        }
+        metrics.stop();
+        return dp[W];
+    }
+
+    /*
+     ♾️ Unbounded Knapsack (every item available any number of times)
+     ----------------------------------------------------------------
+     Same 1-D row, but capacity is walked FORWARD (wt[i] → W): dp[w - wt[i]]
+     may already include item i, so it can be taken again.
+     Time O(n * W), memory O(W).
+    */
+    static long knapSackUnbounded(int W, int wt[], int val[], int n) {
+        checkCapacity(W);
+        checkMemoryBudget(W + 1L, Long.BYTES, "1-D row");
+        long dp[] = new long[W + 1];
+        for (int i = 0; i < n; i++) {
+            if (wt[i] < 0 || (wt[i] == 0 && val[i] > 0))
+                throw new IllegalArgumentException("item " + i + " has no positive weight → unbounded profit");
+            if (wt[i] > 0)
+                addUnbounded(dp, W, wt[i], val[i]);
+        }
+        return dp[W];
+    }
+
+    private static void addUnbounded(long dp[], int W, int weight, long value) {
+        for (int w = weight; w <= W; w++) { // forward → item may repeat
+            long include = value + dp[w - weight];
+            if (include > dp[w])
+                dp[w] = include;
+        }
+    }
+
+    /*
+     🧠 Automatic Strategy Choice
+     ----------------------------
+     Picks the cheapest exact method for the input shape:
+       → table DP (knapSackWithItems): cost ≈ 2 * n * W cells, needs W to fit the memory budget
+       → meet-in-the-middle:           cost ≈ 2^(n/2) * n, only for n ≤ 40, any W
+       → branch and bound:             for large n AND huge W; its node budget is sized
+                                       from the memory budget, and if it (or the time
+                                       limit) runs out the result has optimal = false
+    */
+    static KnapsackBranchAndBound.Result knapSackAuto(long W, int wt[], int val[], int n) {
+        return knapSackAuto(W, wt, val, n, DEFAULT_MEMORY_BUDGET_BYTES);
+    }
+
+    static KnapsackBranchAndBound.Result knapSackAuto(long W, int wt[], int val[], int n, long budgetBytes) {
+        checkCapacity(W);
+        boolean dpFits = W < Integer.MAX_VALUE && 2 * (W + 1) * Long.BYTES <= budgetBytes;
+        double dpCost = 2.0 * n * (W + 1);
+        double mitmCost = n <= KnapsackMeetInTheMiddle.MAX_ITEMS ? Math.pow(2, (n + 1) / 2) * Math.max(1, n) : Double.MAX_VALUE;
+
+        if (dpFits && dpCost <= mitmCost)
+            return new KnapsackBranchAndBound.Result(knapSackWithItems((int) W, wt, val, n, budgetBytes), true, 0);
+        if (n <= KnapsackMeetInTheMiddle.MAX_ITEMS)
+            return new KnapsackBranchAndBound.Result(KnapsackMeetInTheMiddle.solve(W, wt, val, n), true, 0);
+        return new KnapsackBranchAndBound(KnapsackBranchAndBound.nodeBudget(budgetBytes), 10_000)
+                .solve(W, wt, val, n);
+    }
+
+    // Throws before allocating if cells * bytesPerCell would exceed the budget
+    static void checkMemoryBudget(long cells, int bytesPerCell, String what) {
+        checkMemoryBudget(cells, bytesPerCell, what, DEFAULT_MEMORY_BUDGET_BYTES);
+    }
+
+    static void checkMemoryBudget(long cells, int bytesPerCell, String what, long budgetBytes) {
+        if (cells > Integer.MAX_VALUE || cells * bytesPerCell > budgetBytes) {
+            throw new IllegalArgumentException("Knapsack " + what + " needs " + cells * bytesPerCell / (1 << 20)
+                    + " MB, budget is " + budgetBytes / (1 << 20) + " MB");
+        }
+    }
+
+    // A negative W would size the tables negatively → reject it up front
+    static void checkCapacity(long W) {
+        if (W < 0)
+            throw new IllegalArgumentException("capacity must be non-negative: " + W);
+    }
+
     public static void main(String[] args) {
-        Scanner sc = new Scanner(System.in);
+        // Binary columnar input (see ColumnarFile): java ASS4_01KnapsackDP --binary items.bin [--memory-mb N]
+        String binary = FastReader.option(args, "--binary");
+        String memoryMb = FastReader.option(args, "--memory-mb");
+        long budgetBytes = memoryMb != null ? Long.parseLong(memoryMb) << 20 : DEFAULT_MEMORY_BUDGET_BYTES;
+        if (binary != null) {
+            int wt[], val[];
+            long W;
+            try (ColumnarFile file = ColumnarFile.open(Path.of(binary))) {
+                wt = file.weightsAsInt();
+                val = file.profitsAsInt();
+                W = file.capacity();
+            }
+            KnapsackBranchAndBound.Result result = knapSackAuto(W, wt, val, wt.length, budgetBytes);
+            KnapsackSolution solution = result.solution;
+            System.out.println("Items: " + wt.length + ", Capacity: " + W);
+            System.out.println((result.optimal ? "Maximum Profit = " : "Best Profit found (search stopped at its limit, may not be optimal) = ")
+                    + solution.profit + " (" + solution.items.length + " items chosen)");
+            return;
+        }
+
+        // "--scanner" reads with java.util.Scanner instead of FastReader
+        FastReader reader = FastReader.of(System.in, args);
 
         // Step 1: Input number of items
         System.out.print("Enter number of items: ");
-        int n = sc.nextInt();
+        int n = reader.nextInt();
 
         int val[] = new int[n]; // profit of each item
         int wt[] = new int[n];  // weight of each item
@@ -77,21 +539,43 @@ public class ASS4_01KnapsackDP {
         // Step 2: Input profit and weight for each item
         for (int i = 0; i < n; i++) {
             System.out.println("\nEnter profit and weight of item " + (i + 1) + ": ");
-            val[i] = sc.nextInt();
-            wt[i] = sc.nextInt();
+            val[i] = reader.nextInt();
+            wt[i] = reader.nextInt();
         }
 
         // Step 3: Input knapsack capacity
         System.out.print("\nEnter capacity of knapsack: ");
-        int W = sc.nextInt();
+        int W = reader.nextInt();
+        if (W < 0) {
+            System.out.println("\n⚠️ capacity must be non-negative: " + W);
+            reader.close();
+            return;
+        }
 
         // Step 4: Call the DP function to calculate maximum profit
-        int maxProfit = knapSack(W, wt, val, n);
+        // (the 2-D table may be over the memory budget → 1-D only then;
+        //  a huge W can be over it even for one row → branch and bound only)
+        RunMetrics metrics = new RunMetrics();
+        try {
+            int maxProfit = knapSack(W, wt, val, n, metrics);
+
+            // Step 5: Output the result
+            System.out.println("\nMaximum Profit = " + maxProfit);
+            System.out.println("Metrics: " + metrics);
+        } catch (IllegalArgumentException e) {
+            System.out.println("\n⚠️ " + e.getMessage());
+        }
+        try {
+            System.out.println("Maximum Profit (1-D) = " + knapSackRolling(W, wt, val, n));
+            System.out.println("Chosen Items (0-based): " + knapSackWithItems(W, wt, val, n));
+        } catch (IllegalArgumentException e) {
+            System.out.println("⚠️ " + e.getMessage()); // even one row is over the budget
+        }
 
-        // Step 5: Output the result
-        System.out.println("\nMaximum Profit = " + maxProfit);
+        // Branch and bound (doesn't depend on W) → should agree with the DP
+        System.out.println("Branch & Bound: " + new KnapsackBranchAndBound(1_000_000, 1_000).solve(W, wt, val, n));
 
-        sc.close();
+        reader.close();
     }
 }
 
@@ -128,6 +612,32 @@ Hence, Maximum Profit = 220
 
 🧩 Space Optimization (if asked):
    - We can reduce it to O(W) using a 1D array and iterating capacity backward.
+   - Implemented in knapSackRolling() (value only, long profits).
+   - knapSackWithItems() also returns the chosen items in O(W) memory
+     by splitting items in half and recursing (≈ 2x the work).
+
+♻️ PreparedKnapsack: keeps the last 1-D row → any capacity ≤ W in O(1),
+   one more item in O(W), copy-on-write snapshot / restore for what-ifs.
+
+🧵 knapSackParallel(): same O(n * W) work split across cores per row,
+   O(W) memory (two rows).
+
+🌳 KnapsackBranchAndBound: best-first search pruned by the fractional
+   (greedy) bound → cost depends on n and the data, not on W.
+
+🤝 KnapsackMeetInTheMiddle: n ≤ 40 with any W → O(2^(n/2) * n).
+   knapSackAuto() chooses table DP / meet-in-the-middle / branch and bound.
+
+💰 knapSackByProfit(): O(n * ΣP) time, O(ΣP) memory → for huge W, small profits.
+   knapSackApprox(): FPTAS, profits scaled by ε → O(n³ / ε), ≥ (1 - ε) * optimum.
+
+📦 knapSackBounded(): count[i] copies per item via binary splitting
+   → O(W * Σ log count) instead of O(W * Σ count); knapSackUnbounded(): any
+   number of copies, forward loop → O(n * W).
+
+🧮 Subset-sum (profit == weight):
+   - reachableWeights() packs 64 capacities per long → O(n * W / 64) time,
+     W / 8 bytes of memory.
 
 --------------------------------------------
 🎯 KEY POINTS TO REMEMBER
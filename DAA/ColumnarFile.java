@@ -0,0 +1,274 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 🔹 ColumnarFile — compact binary job / item sets, read through mmap
+// Even a fast text parser must look at every digit. This format stores each
+// field as a contiguous little-endian column, so a solver maps the file and
+// bulk-copies whole columns into its primitive arrays (no per-record objects,
+// no parsing).
+//
+// Layout (all little-endian):
+//   bytes 0..63   header
+//     0  int   magic "DAAC"
+//     4  int   version (1)
+//     8  long  count n
+//     16 long  capacity (knapsack W / capacity; -1 for job files)
+//     24 int   column mask (ID | PROFIT | WEIGHT | DEADLINE)
+//     28..63   zero
+//   then the present columns, in this order, each padded to 8 bytes:
+//     id long[n], profit long[n], weight int[n], deadline int[n]
+//
+// Text → binary (same text the interactive programs read):
+//   java ColumnarFile jobs       jobs.txt  jobs.bin   n, (deadline profit) x n
+//   java ColumnarFile fractional items.txt items.bin  n, (weight profit) x n, capacity
+//   java ColumnarFile knapsack   items.txt items.bin  n, (profit weight) x n, W
+class ColumnarFile implements Closeable {
+
+    static final int MAGIC = 0x43414144; // "DAAC" read as a little-endian int
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+
+    // Column mask bits
+    static final int ID = 1;
+    static final int PROFIT = 2;
+    static final int WEIGHT = 4;
+    static final int DEADLINE = 8;
+
+    static final int JOB_COLUMNS = ID | PROFIT | DEADLINE;
+    static final int ITEM_COLUMNS = ID | PROFIT | WEIGHT;
+
+    private final FileChannel channel;
+    private final int size;
+    private final long capacity;
+    private final int columns;
+
+    private ColumnarFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        if (channel.size() < HEADER_BYTES)
+            throw new IllegalArgumentException("not a columnar DAA file (too short)");
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        if (header.getInt(0) != MAGIC)
+            throw new IllegalArgumentException("not a columnar DAA file (bad magic)");
+        if (header.getInt(4) != VERSION)
+            throw new IllegalArgumentException("unsupported columnar file version " + header.getInt(4));
+        long count = header.getLong(8);
+        if (count < 0 || count > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("bad record count " + count);
+        this.size = (int) count;
+        this.capacity = header.getLong(16);
+        this.columns = header.getInt(24);
+        if (channel.size() < offset(columns, DEADLINE << 1, size))
+            throw new IllegalArgumentException("columnar file is truncated");
+    }
+
+    static ColumnarFile open(Path file) {
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            return new ColumnarFile(channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    long capacity() {
+        return capacity;
+    }
+
+    boolean has(int column) {
+        return (columns & column) != 0;
+    }
+
+    // ---------------------------------------------------------
+    // 📖 Mapped column views (valid after close, until collected)
+    // ---------------------------------------------------------
+    LongBuffer ids() {
+        return map(ID, Long.BYTES).asLongBuffer();
+    }
+
+    LongBuffer profits() {
+        return map(PROFIT, Long.BYTES).asLongBuffer();
+    }
+
+    IntBuffer weights() {
+        return map(WEIGHT, Integer.BYTES).asIntBuffer();
+    }
+
+    IntBuffer deadlines() {
+        return map(DEADLINE, Integer.BYTES).asIntBuffer();
+    }
+
+    // Job columns → JobBatch with whole-column bulk copies
+    JobBatch toJobBatch() {
+        require(PROFIT | DEADLINE);
+        long[] ids = new long[size];
+        if (has(ID)) {
+            ids().get(ids);
+        } else {
+            for (int i = 0; i < size; i++) {
+                ids[i] = i;
+            }
+        }
+        int[] deadlines = new int[size];
+        deadlines().get(deadlines);
+        long[] profits = new long[size];
+        profits().get(profits);
+        return new JobBatch(ids, deadlines, profits);
+    }
+
+    // Weight column widened to long (for solvers with long weights)
+    long[] weightsAsLong() {
+        IntBuffer column = weights();
+        long[] weights = new long[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = column.get(i);
+        }
+        return weights;
+    }
+
+    int[] weightsAsInt() {
+        int[] weights = new int[size];
+        weights().get(weights);
+        return weights;
+    }
+
+    long[] profitsAsLong() {
+        long[] profits = new long[size];
+        profits().get(profits);
+        return profits;
+    }
+
+    // Profit column narrowed to int (for the int-valued DP solvers)
+    int[] profitsAsInt() {
+        LongBuffer column = profits();
+        int[] profits = new int[size];
+        for (int i = 0; i < size; i++) {
+            long profit = column.get(i);
+            if (profit < Integer.MIN_VALUE || profit > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("profit of item " + i + " doesn't fit an int: " + profit);
+            profits[i] = (int) profit;
+        }
+        return profits;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(channel);
+    }
+
+    private void require(int needed) {
+        if ((columns & needed) != needed)
+            throw new IllegalArgumentException("columnar file lacks a required column (mask " + columns + ")");
+    }
+
+    private ByteBuffer map(int column, int width) {
+        require(column);
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset(columns, column, size), (long) size * width)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Byte offset where 'column' starts (or, for a bit past DEADLINE, the file end)
+    private static long offset(int columns, int column, long size) {
+        long offset = HEADER_BYTES;
+        for (int bit = ID; bit < column; bit <<= 1) {
+            if ((columns & bit) != 0)
+                offset += padded(size * (bit == ID || bit == PROFIT ? Long.BYTES : Integer.BYTES));
+        }
+        return offset;
+    }
+
+    private static long padded(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null)
+            return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // nothing useful to do when closing a read-only file fails
+        }
+    }
+
+    // ---------------------------------------------------------
+    // ✍️ Text → binary converter
+    // ---------------------------------------------------------
+    // Records go straight from the reader into mapped output columns,
+    // so the whole data set is never held in memory.
+    static void convert(String kind, FastReader in, Path out) {
+        boolean jobs = kind.equals("jobs");
+        boolean profitFirst = kind.equals("knapsack"); // ASS4 reads profit before weight
+        if (!jobs && !profitFirst && !kind.equals("fractional"))
+            throw new IllegalArgumentException("kind must be jobs, fractional or knapsack: " + kind);
+
+        int n = in.nextInt();
+        if (n < 0)
+            throw new IllegalArgumentException("negative record count " + n);
+        int columns = jobs ? JOB_COLUMNS : ITEM_COLUMNS;
+
+        try (FileChannel channel = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            LongBuffer ids = mapForWrite(channel, columns, ID, n, Long.BYTES).asLongBuffer();
+            LongBuffer profits = mapForWrite(channel, columns, PROFIT, n, Long.BYTES).asLongBuffer();
+            IntBuffer second = mapForWrite(channel, columns, jobs ? DEADLINE : WEIGHT, n, Integer.BYTES).asIntBuffer();
+
+            for (int i = 0; i < n; i++) {
+                ids.put(i, i);
+                if (profitFirst) {
+                    profits.put(i, in.nextLong());
+                    second.put(i, in.nextInt());
+                } else {
+                    second.put(i, in.nextInt()); // deadline or weight
+                    profits.put(i, in.nextLong());
+                }
+            }
+            long capacity = jobs ? -1 : in.nextLong();
+
+            // Header last → a half-written file never has a valid magic
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(0, MAGIC).putInt(4, VERSION).putLong(8, n).putLong(16, capacity).putInt(24, columns);
+            channel.write(header, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer mapForWrite(FileChannel channel, int columns, int column, int n, int width)
+            throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, offset(columns, column, n), padded((long) n * width))
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.out.println("Usage: java ColumnarFile <jobs|fractional|knapsack> <input.txt> <output.bin>");
+            return;
+        }
+        try (FastReader in = FastReader.open(Path.of(args[1]), true)) {
+            convert(args[0], in, Path.of(args[2]));
+        }
+        try (ColumnarFile file = open(Path.of(args[2]))) {
+            System.out.println("✅ Wrote " + file.size() + " records to " + args[2]);
+        }
+    }
+}
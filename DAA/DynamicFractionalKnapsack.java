@@ -0,0 +1,164 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// 🔹 DynamicFractionalKnapsack — fractional knapsack over a changing item set
+// Items are kept in a treap (a randomly balanced binary search tree)
+// ordered by profit/weight ratio, best ratio on the left. Every node also
+// stores the total weight and profit of its subtree, so:
+//
+//   put / remove an item       → O(log n) expected
+//   max profit at capacity C   → O(log n) expected
+//
+// The query walks down from the root: if the better-ratio (left) side
+// already weighs ≥ C the answer is in there; otherwise take all of it,
+// then this node (whole or a fraction), then continue to the right.
+class DynamicFractionalKnapsack {
+
+    // 🔹 One item in the tree
+    private static final class Node {
+        final long id;
+        final long weight;
+        final long profit;
+        final double ratio;
+        final int priority;    // random heap key → keeps the tree balanced
+        Node left, right;
+        long sumWeight;        // totals of this subtree
+        long sumProfit;
+
+        Node(long id, long weight, long profit, int priority) {
+            this.id = id;
+            this.weight = weight;
+            this.profit = profit;
+            this.ratio = weight == 0 ? Double.POSITIVE_INFINITY : (double) profit / weight;
+            this.priority = priority;
+            this.sumWeight = weight;
+            this.sumProfit = profit;
+        }
+    }
+
+    private final Map<Long, Node> byId = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom(42);
+    private Node root;
+
+    // Adds an item, or replaces (reprices) the item with the same id
+    void put(long id, long weight, long profit) {
+        if (weight < 0)
+            throw new IllegalArgumentException("negative weight for item " + id);
+        remove(id);
+        Node node = new Node(id, weight, profit, random.nextInt());
+        Node[] parts = split(root, node);
+        root = merge(merge(parts[0], node), parts[1]);
+        byId.put(id, node);
+    }
+
+    // Removes an item; returns false if it wasn't there
+    boolean remove(long id) {
+        Node node = byId.remove(id);
+        if (node == null)
+            return false;
+        root = delete(root, node);
+        return true;
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    long totalWeight() {
+        return sum(root, true);
+    }
+
+    long totalProfit() {
+        return sum(root, false);
+    }
+
+    // Max profit for capacity C → one walk from root to a leaf
+    double maxProfit(long capacity) {
+        double profit = 0.0;
+        long remaining = Math.max(0, capacity);
+        Node node = root;
+        while (node != null) {
+            long leftWeight = sum(node.left, true);
+            if (leftWeight >= remaining && node.left != null && leftWeight > 0) {
+                node = node.left; // the split point is among the better items
+                continue;
+            }
+            // take the whole better side
+            profit += sum(node.left, false);
+            remaining -= leftWeight;
+
+            if (node.weight <= remaining) {
+                profit += node.profit; // this item fits whole
+                remaining -= node.weight;
+                node = node.right;
+            } else {
+                profit += node.ratio * remaining; // take a fraction and stop
+                break;
+            }
+        }
+        return profit;
+    }
+
+    // ---------------------------------------------------------
+    // 🌲 Treap helpers
+    // ---------------------------------------------------------
+
+    // Better ratio first; id breaks ties so every item has a unique place
+    private static boolean before(Node a, Node b) {
+        int byRatio = Double.compare(b.ratio, a.ratio);
+        return byRatio != 0 ? byRatio < 0 : a.id < b.id;
+    }
+
+    private static long sum(Node node, boolean weight) {
+        if (node == null)
+            return 0;
+        return weight ? node.sumWeight : node.sumProfit;
+    }
+
+    private static Node update(Node node) {
+        node.sumWeight = node.weight + sum(node.left, true) + sum(node.right, true);
+        node.sumProfit = node.profit + sum(node.left, false) + sum(node.right, false);
+        return node;
+    }
+
+    // Splits into { nodes before key, nodes not before key }
+    private static Node[] split(Node node, Node key) {
+        if (node == null)
+            return new Node[2];
+        if (before(node, key)) {
+            Node[] parts = split(node.right, key);
+            node.right = parts[0];
+            parts[0] = update(node);
+            return parts;
+        }
+        Node[] parts = split(node.left, key);
+        node.left = parts[1];
+        parts[1] = update(node);
+        return parts;
+    }
+
+    // Joins two treaps where every node of a comes before every node of b
+    private static Node merge(Node a, Node b) {
+        if (a == null)
+            return b;
+        if (b == null)
+            return a;
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            return update(a);
+        }
+        b.left = merge(a, b.left);
+        return update(b);
+    }
+
+    private static Node delete(Node node, Node target) {
+        if (node == target)
+            return merge(node.left, node.right);
+        if (before(target, node))
+            node.left = delete(node.left, target);
+        else
+            node.right = delete(node.right, target);
+        return update(node);
+    }
+}
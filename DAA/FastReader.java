@@ -0,0 +1,203 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+// 🔹 FastReader — whitespace-separated int / long tokens, straight from bytes
+// Scanner runs a regex per token and builds a String for each one, which is
+// most of the runtime once inputs reach millions of numbers. This reader
+// refills one 64 KB byte[] and turns digits into a number while scanning,
+// so reading a token allocates nothing.
+//
+// Sources: an InputStream (stdin), a FileChannel, or a memory-mapped file
+// (read window by window, so files over 2 GB work too).
+// Errors match Scanner: NoSuchElementException at end of input,
+// InputMismatchException for a token that isn't a number in range.
+//
+// "--scanner" on the command line swaps in java.util.Scanner (see of())
+// so the two can be timed against each other on the same input.
+class FastReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final long MAP_WINDOW = 1L << 30;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position, limit;
+
+    private final InputStream in;          // one of these three is the source
+    private final FileChannel channel;
+    private final boolean mapped;
+    private final Scanner scanner;         // non-null → Scanner fallback mode
+
+    private MappedByteBuffer window;       // current mapped window (mapped mode)
+    private long windowEnd;                // file offset just past the window
+
+    private FastReader(InputStream in, FileChannel channel, boolean mapped, Scanner scanner) {
+        this.in = in;
+        this.channel = channel;
+        this.mapped = mapped;
+        this.scanner = scanner;
+    }
+
+    static FastReader of(InputStream in) {
+        return new FastReader(in, null, false, null);
+    }
+
+    // Reads a file through its channel, or through mmap when mapped = true
+    static FastReader open(Path file, boolean mapped) {
+        try {
+            return new FastReader(null, FileChannel.open(file, StandardOpenOption.READ), mapped, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static FastReader scanner(InputStream in) {
+        return new FastReader(in, null, false, new Scanner(in));
+    }
+
+    // Fast reader over 'in', or Scanner if the program was started with --scanner
+    static FastReader of(InputStream in, String[] args) {
+        return hasFlag(args, "--scanner") ? scanner(in) : of(in);
+    }
+
+    static boolean hasFlag(String[] args, String flag) {
+        for (String arg : args) {
+            if (arg.equals(flag))
+                return true;
+        }
+        return false;
+    }
+
+    // Value after "--name" in args, or null if the option isn't there
+    static String option(String[] args, String name) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(name))
+                return args[i + 1];
+        }
+        return null;
+    }
+
+    // True if another token follows (whitespace is skipped)
+    boolean hasNext() {
+        if (scanner != null)
+            return scanner.hasNext();
+        return skipWhitespace() >= 0;
+    }
+
+    int nextInt() {
+        if (scanner != null)
+            return scanner.nextInt();
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE)
+            throw new InputMismatchException("int out of range: " + value);
+        return (int) value;
+    }
+
+    long nextLong() {
+        if (scanner != null)
+            return scanner.nextLong();
+
+        int c = skipWhitespace();
+        if (c < 0)
+            throw new NoSuchElementException();
+        boolean negative = c == '-';
+        if (c == '-' || c == '+') {
+            position++;
+            c = peek();
+        }
+        if (c < '0' || c > '9')
+            throw new InputMismatchException("not a number at '" + (char) Math.max(c, '?') + "'");
+
+        // Accumulate as a negative number so Long.MIN_VALUE parses too
+        long value = 0;
+        while (c >= '0' && c <= '9') {
+            int digit = c - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10)
+                throw new InputMismatchException("long out of range");
+            value = value * 10 - digit;
+            position++;
+            c = peek();
+        }
+        if (c > ' ')
+            throw new InputMismatchException("not a number at '" + (char) c + "'");
+        if (!negative && value == Long.MIN_VALUE)
+            throw new InputMismatchException("long out of range");
+        return negative ? value : -value;
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (scanner != null)
+                scanner.close();
+            else if (in != null)
+                in.close();
+            else
+                channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ---------------------------------------------------------
+    // 🧱 Buffer handling
+    // ---------------------------------------------------------
+
+    // Next unread byte without consuming it, -1 at end of input
+    private int peek() {
+        if (position == limit && !refill())
+            return -1;
+        return buffer[position] & 0xFF;
+    }
+
+    private int skipWhitespace() {
+        int c = peek();
+        while (c >= 0 && c <= ' ') {
+            position++;
+            c = peek();
+        }
+        return c;
+    }
+
+    private boolean refill() {
+        try {
+            int read;
+            if (in != null)
+                read = in.read(buffer);   // returns what is available → prompts still work
+            else if (mapped)
+                read = readMapped();
+            else
+                read = channel.read(ByteBuffer.wrap(buffer));
+            if (read <= 0)
+                return false;
+            position = 0;
+            limit = read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int readMapped() throws IOException {
+        if (window == null || !window.hasRemaining()) {
+            long size = channel.size();
+            if (windowEnd >= size)
+                return -1;
+            long length = Math.min(MAP_WINDOW, size - windowEnd);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowEnd, length);
+            windowEnd += length;
+        }
+        int count = Math.min(buffer.length, window.remaining());
+        window.get(buffer, 0, count);
+        return count;
+    }
+}
@@ -0,0 +1,109 @@
+import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 🔹 Shared memo cache for repeated Fibonacci queries
+// Stores { F(k), F(k+1) } pairs so a cold query can continue from the
+// nearest cached k below it instead of starting again from F(0).
+// Entries are split into segments, each an access-ordered LinkedHashMap
+// (LRU) with its own lock, so threads touching different n rarely block.
+class FibonacciCache {
+    static final int MAX_SEGMENTS = 16;
+
+    private final Segment[] segments;
+    // Sorted view of every cached key → used to find the nearest pair below n
+    private final ConcurrentSkipListMap<Long, BigInteger[]> nearest = new ConcurrentSkipListMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    FibonacciCache(int maxEntries) {
+        if (maxEntries <= 0)
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+
+        int count = Math.min(MAX_SEGMENTS, maxEntries);
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // spread the bound so the total never exceeds maxEntries
+            segments[i] = new Segment(maxEntries / count + (i < maxEntries % count ? 1 : 0));
+        }
+    }
+
+    // Returns F(n) — O(1) when n is cached
+    BigInteger get(long n) {
+        if (n < 0)
+            throw new IllegalArgumentException("n must be non-negative: " + n);
+
+        Segment segment = segmentFor(n);
+        BigInteger[] pair;
+        synchronized (segment) {
+            pair = segment.get(n);
+        }
+        if (pair != null) {
+            hits.increment();
+            return pair[0];
+        }
+
+        misses.increment();
+        pair = computePair(n);
+        synchronized (segment) {
+            segment.put(n, pair);
+            nearest.put(n, pair);
+        }
+        return pair[0];
+    }
+
+    // Extends from the closest cached pair at or below n
+    private BigInteger[] computePair(long n) {
+        Map.Entry<Long, BigInteger[]> floor = nearest.floorEntry(n);
+        if (floor == null)
+            return ASS1_Fibonacci.fibonacciPair(n);
+
+        return ASS1_Fibonacci.fibonacciAdvance(floor.getValue(), n - floor.getKey());
+    }
+
+    private Segment segmentFor(long n) {
+        // mix the bits so clustered n values still spread across segments
+        long h = n * 0x9E3779B97F4A7C15L;
+        return segments[(int) ((h >>> 32) % segments.length)];
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    int size() {
+        return nearest.size();
+    }
+
+    // One LRU segment — evicting here also drops the key from the sorted view
+    private final class Segment extends LinkedHashMap<Long, BigInteger[]> {
+        private static final long serialVersionUID = 1L;
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true); // access order → LRU
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BigInteger[]> eldest) {
+            if (size() <= capacity)
+                return false;
+            nearest.remove(eldest.getKey());
+            evictions.increment();
+            return true;
+        }
+    }
+}
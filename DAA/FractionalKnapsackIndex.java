@@ -0,0 +1,115 @@
+import java.util.Arrays;
+
+// 🔹 FractionalKnapsackIndex — one item set, many capacity questions
+// getMaxProfit() sorts the items again on every call. When the same items
+// are asked about with thousands of capacities, sort them once here and keep
+// running totals of weight and profit in ratio order:
+//
+//   prefixWeight[k] = weight of the k best-ratio items
+//   prefixProfit[k] = profit of the k best-ratio items
+//
+// For capacity C, binary search the last k with prefixWeight[k] ≤ C:
+//   answer = prefixProfit[k] + ratio of item k × (C - prefixWeight[k])
+// → O(log n) per query. Weights and profits are longs, so large totals
+// don't overflow the way an int running weight would.
+class FractionalKnapsackIndex {
+
+    private final long[] prefixWeight; // size n+1, prefixWeight[0] = 0
+    private final long[] prefixProfit; // size n+1
+    private final double[] ratio;      // ratio of the k-th best item
+
+    FractionalKnapsackIndex(long[] weights, long[] profits) {
+        if (weights.length != profits.length)
+            throw new IllegalArgumentException("weights and profits differ in length");
+
+        int n = weights.length;
+        double[] itemRatio = new double[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            if (weights[i] < 0)
+                throw new IllegalArgumentException("negative weight at item " + i);
+            itemRatio[i] = weights[i] == 0 ? Double.POSITIVE_INFINITY : (double) profits[i] / weights[i];
+            order[i] = i;
+        }
+        // Sorted once here → every later query is a binary search
+        Arrays.sort(order, (a, b) -> Double.compare(itemRatio[b], itemRatio[a]));
+
+        prefixWeight = new long[n + 1];
+        prefixProfit = new long[n + 1];
+        ratio = new double[n];
+        for (int k = 0; k < n; k++) {
+            int item = order[k];
+            prefixWeight[k + 1] = prefixWeight[k] + weights[item];
+            prefixProfit[k + 1] = prefixProfit[k] + profits[item];
+            ratio[k] = itemRatio[item];
+        }
+    }
+
+    // Builds the index from the classic Item objects
+    static FractionalKnapsackIndex of(Item[] items) {
+        long[] weights = new long[items.length];
+        long[] profits = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            weights[i] = items[i].weight;
+            profits[i] = items[i].profit;
+        }
+        return new FractionalKnapsackIndex(weights, profits);
+    }
+
+    int size() {
+        return ratio.length;
+    }
+
+    // Max profit for one capacity → O(log n)
+    double maxProfit(long capacity) {
+        long c = Math.max(0, capacity);
+        return profitAt(wholeItemsWithin(c), c);
+    }
+
+    // Max profit for many capacities in one pass.
+    // Capacities are visited in increasing order so the item pointer only
+    // moves forward: O(Q log Q) to sort the queries + O(n + Q) for the sweep.
+    double[] maxProfits(long[] capacities) {
+        int q = capacities.length;
+        long[] sorted = capacities.clone();
+        Arrays.sort(sorted);
+
+        double[] answerSorted = new double[q];
+        int k = 0;
+        for (int i = 0; i < q; i++) {
+            long capacity = Math.max(0, sorted[i]);
+            while (k < ratio.length && prefixWeight[k + 1] <= capacity) {
+                k++; // the next whole item still fits
+            }
+            answerSorted[i] = profitAt(k, capacity);
+        }
+
+        // Back to the caller's order
+        double[] answers = new double[q];
+        for (int i = 0; i < q; i++) {
+            answers[i] = answerSorted[Arrays.binarySearch(sorted, capacities[i])];
+        }
+        return answers;
+    }
+
+    // k whole items taken, then a fraction of item k with the remaining space
+    private double profitAt(int k, long capacity) {
+        double profit = prefixProfit[k];
+        if (k < ratio.length)
+            profit += ratio[k] * (capacity - prefixWeight[k]);
+        return profit;
+    }
+
+    // Largest k with prefixWeight[k] ≤ capacity
+    private int wholeItemsWithin(long capacity) {
+        int lo = 0, hi = ratio.length;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (prefixWeight[mid] <= capacity)
+                lo = mid;
+            else
+                hi = mid - 1;
+        }
+        return lo;
+    }
+}
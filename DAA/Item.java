@@ -0,0 +1,14 @@
+// 🔹 Class to represent each item
+class Item {
+    int weight;     // weight of the item
+    int profit;     // profit/value of the item
+    double ratio;   // profit/weight ratio (used for greedy selection)
+
+    // Constructor to initialize an item
+    Item(int weight, int profit) {
+        this.weight = weight;
+        this.profit = profit;
+        // compute profit/weight ratio (for greedy sorting)
+        this.ratio = (double) profit / weight;
+    }
+}
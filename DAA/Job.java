@@ -0,0 +1,12 @@
+// 🔹 Class to represent each Job with its properties
+class Job {
+    char id;       // Job ID (like A, B, C, ...)
+    int deadline;  // Deadline in time slots (1, 2, 3, ...)
+    int profit;    // Profit if job is done within its deadline
+
+    Job(char id, int deadline, int profit) {
+        this.id = id;
+        this.deadline = deadline;
+        this.profit = profit;
+    }
+}
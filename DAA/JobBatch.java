@@ -0,0 +1,171 @@
+import java.util.Arrays;
+
+// 🔹 JobBatch — many jobs stored column by column
+// Instead of one Job object per job, the batch keeps three parallel arrays
+// (id, deadline, profit). Millions of jobs then cost three arrays, not
+// millions of objects, and sorting never goes through a comparator.
+class JobBatch {
+
+    private long[] ids;       // job id (any long, not limited to 'A'..'Z')
+    private int[] deadlines;  // deadline in time slots (1, 2, 3, ...)
+    private long[] profits;   // profit if job is done within its deadline
+    private int size;
+
+    JobBatch(int capacity) {
+        ids = new long[Math.max(1, capacity)];
+        deadlines = new int[ids.length];
+        profits = new long[ids.length];
+    }
+
+    // Wraps existing columns (no copy); all three must have the same length
+    JobBatch(long[] ids, int[] deadlines, long[] profits) {
+        if (ids.length != deadlines.length || ids.length != profits.length)
+            throw new IllegalArgumentException("job columns differ in length");
+        this.ids = ids;
+        this.deadlines = deadlines;
+        this.profits = profits;
+        this.size = ids.length;
+    }
+
+    // Copies classic Job objects into a batch (id = the job's char code)
+    static JobBatch of(Job[] jobs) {
+        JobBatch batch = new JobBatch(jobs.length);
+        for (Job job : jobs) {
+            batch.add(job.id, job.deadline, job.profit);
+        }
+        return batch;
+    }
+
+    void add(long id, int deadline, long profit) {
+        if (size == ids.length) {
+            int grown = Math.max(1, size * 2);
+            ids = Arrays.copyOf(ids, grown);
+            deadlines = Arrays.copyOf(deadlines, grown);
+            profits = Arrays.copyOf(profits, grown);
+        }
+        ids[size] = id;
+        deadlines[size] = deadline;
+        profits[size] = profit;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long id(int index) {
+        return ids[index];
+    }
+
+    int deadline(int index) {
+        return deadlines[index];
+    }
+
+    long profit(int index) {
+        return profits[index];
+    }
+
+    // ---------------------------------------------------------
+    // 🔢 Radix sort of job indices by profit (descending)
+    // ---------------------------------------------------------
+    // LSD radix sort on 16-bit digits of the profit. Stable, so equal
+    // profits keep input order, just like Arrays.sort on Job[].
+    // Passes where every job has the same digit are skipped, so small
+    // profits usually need only one or two passes.
+    int[] orderByProfitDescending() {
+        int[] order = new int[size];
+        int[] buffer = new int[size];
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            // flip sign bit → unsigned order matches signed order,
+            // then invert → ascending keys mean descending profit
+            keys[i] = ~(profits[i] ^ Long.MIN_VALUE);
+        }
+
+        int[] count = new int[1 << 16];
+        for (int shift = 0; shift < 64; shift += 16) {
+            Arrays.fill(count, 0);
+            for (int i = 0; i < size; i++) {
+                count[(int) (keys[i] >>> shift) & 0xFFFF]++;
+            }
+            if (size == 0 || count[(int) (keys[0] >>> shift) & 0xFFFF] == size)
+                continue; // every key shares this digit → pass changes nothing
+
+            // prefix sums → starting position of each digit
+            int position = 0;
+            for (int d = 0; d < count.length; d++) {
+                int c = count[d];
+                count[d] = position;
+                position += c;
+            }
+            for (int i = 0; i < size; i++) {
+                int job = order[i];
+                buffer[count[(int) (keys[job] >>> shift) & 0xFFFF]++] = job;
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    // ---------------------------------------------------------
+    // ✅ Greedy schedule over the batch
+    // ---------------------------------------------------------
+    // Same greedy as ASS2_JobSequencingGreedy (most profitable first, as late
+    // as possible) using the disjoint-set slot finder. Deadlines are capped at
+    // the number of jobs: n jobs can never use more than n slots, so this keeps
+    // the slot arrays small without changing which jobs get scheduled.
+    Schedule schedule(SolverMetrics metrics) {
+        metrics.start();
+        Schedule schedule = place(orderByProfitDescending(), metrics);
+        metrics.stop();
+        return schedule;
+    }
+
+    // Places the jobs in the given order (most profitable first), each in the
+    // latest free slot before its deadline
+    Schedule place(int[] order, SolverMetrics metrics) {
+        int slots = 0;
+        for (int i = 0; i < size; i++) {
+            slots = Math.max(slots, Math.min(deadlines[i], size));
+        }
+
+        int[] slotJob = new int[slots]; // batch index of the job in each slot, -1 = free
+        Arrays.fill(slotJob, -1);
+        int[] latest = new int[slots + 1];
+        for (int t = 0; t <= slots; t++) {
+            latest[t] = t;
+        }
+
+        long totalProfit = 0;
+        int countJobs = 0;
+        for (int job : order) {
+            if (deadlines[job] <= 0)
+                continue; // already past its deadline
+            int free = ASS2_JobSequencingGreedy.findLatestFree(latest, Math.min(slots, deadlines[job]), metrics);
+            if (free == 0)
+                continue; // no free slot before this deadline
+
+            slotJob[free - 1] = job;
+            latest[free] = free - 1;
+            totalProfit += profits[job];
+            countJobs++;
+        }
+        return new Schedule(slotJob, countJobs, totalProfit);
+    }
+
+    // 🔹 Result of scheduling a batch
+    static class Schedule {
+        final int[] slotJob;    // batch index of the job in each slot, -1 = free
+        final int countJobs;    // total jobs successfully scheduled
+        final long totalProfit; // total profit collected
+
+        Schedule(int[] slotJob, int countJobs, long totalProfit) {
+            this.slotJob = slotJob;
+            this.countJobs = countJobs;
+            this.totalProfit = totalProfit;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+// 🔹 KnapsackBranchAndBound — 0/1 knapsack whose cost doesn't depend on W
+// The DP table is n x W, useless when W is in the billions. Branch and bound
+// instead explores "take / skip item k" decisions, best-looking node first:
+//
+//   bound(node) = profit so far + FRACTIONAL knapsack of the remaining items
+//                 (the greedy from ASS3_FractionalKnapsackGreedy) — no 0/1
+//                 answer below this node can beat it.
+//
+// Nodes whose bound can't beat the best complete answer found so far
+// (the incumbent) are thrown away. Items are sorted by ratio once and
+// prefix sums make each bound a binary search → O(log n) per node.
+// Zero-weight items never compete for room, so they are set aside before the
+// sort and the profitable ones are simply added to every answer.
+//
+// A node budget and a time limit stop the search early; the best incumbent
+// is returned with optimal = false in that case.
+class KnapsackBranchAndBound {
+
+    // Rough heap cost of one queued node (object + queue slot)
+    static final int BYTES_PER_NODE = 64;
+
+    private final long nodeBudget;
+    private final long timeoutNanos;
+
+    KnapsackBranchAndBound(long nodeBudget, long timeoutMillis) {
+        this.nodeBudget = nodeBudget;
+        this.timeoutNanos = timeoutMillis * 1_000_000L;
+    }
+
+    // Node budget whose queue fits in memoryBytes
+    static long nodeBudget(long memoryBytes) {
+        return Math.max(1, memoryBytes / BYTES_PER_NODE);
+    }
+
+    // 🔹 Result: best solution found + whether the search finished
+    static class Result {
+        final KnapsackSolution solution;
+        final boolean optimal;   // false → stopped by node budget or time limit
+        final long nodes;        // nodes taken from the queue
+
+        Result(KnapsackSolution solution, boolean optimal, long nodes) {
+            this.solution = solution;
+            this.optimal = optimal;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public String toString() {
+            return solution + ", optimal=" + optimal + ", nodes=" + nodes;
+        }
+    }
+
+    // 🔹 One partial decision: items before 'level' (in ratio order) are decided
+    private static final class Node {
+        final int level;
+        final long weight;
+        final long profit;
+        final double bound;
+        final Node takenBefore; // previous node on the path where an item was taken
+        final int takenItem;    // sorted position of the item taken here, -1 if none
+
+        Node(int level, long weight, long profit, double bound, Node takenBefore, int takenItem) {
+            this.level = level;
+            this.weight = weight;
+            this.profit = profit;
+            this.bound = bound;
+            this.takenBefore = takenBefore;
+            this.takenItem = takenItem;
+        }
+    }
+
+    private int[] order;        // item indices with weight > 0, best ratio first
+    private int[] free;         // zero-weight items with profit > 0 → always taken
+    private long freeProfit;
+    private long[] prefixWeight;
+    private long[] prefixProfit;
+
+    Result solve(long W, int wt[], int val[], int n) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        prepare(wt, val, n);
+
+        // Start with the greedy answer (take whole items in ratio order) as incumbent
+        Node best = greedyIncumbent(W, wt, val);
+
+        PriorityQueue<Node> queue = new PriorityQueue<>((a, b) -> Double.compare(b.bound, a.bound));
+        queue.add(new Node(0, 0, 0, bound(0, W, 0), null, -1));
+
+        long nodes = 0;
+        boolean optimal = true;
+        while (!queue.isEmpty()) {
+            if (nodes >= nodeBudget || ((nodes & 1023) == 0 && System.nanoTime() > deadline)) {
+                optimal = false;
+                break;
+            }
+            Node node = queue.poll();
+            nodes++;
+            if (node.bound <= best.profit)
+                break; // best-first → no node left can beat the incumbent
+            if (node.level == order.length)
+                continue;
+
+            int item = order[node.level];
+            int next = node.level + 1;
+
+            // Branch 1: take the item (if it fits)
+            if (node.weight + wt[item] <= W) {
+                long weight = node.weight + wt[item];
+                long profit = node.profit + val[item];
+                Node take = new Node(next, weight, profit, bound(next, W - weight, profit), node.takenItem >= 0 ? node : node.takenBefore, node.level);
+                if (profit > best.profit)
+                    best = take;
+                if (take.bound > best.profit)
+                    queue.add(take);
+            }
+
+            // Branch 2: skip the item
+            Node skip = new Node(next, node.weight, node.profit, bound(next, W - node.weight, node.profit),
+                    node.takenItem >= 0 ? node : node.takenBefore, -1);
+            if (skip.bound > best.profit)
+                queue.add(skip);
+        }
+
+        return new Result(toSolution(best), optimal, nodes);
+    }
+
+    // Sorts item indices by profit/weight ratio and builds prefix sums
+    private void prepare(int wt[], int val[], int n) {
+        int weighted = 0, freeCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (wt[i] > 0)
+                weighted++;
+            else if (val[i] > 0)
+                freeCount++;
+        }
+        Integer[] sorted = new Integer[weighted];
+        free = new int[freeCount];
+        freeProfit = 0;
+        weighted = freeCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (wt[i] > 0) {
+                sorted[weighted++] = i;
+            } else if (val[i] > 0) {
+                free[freeCount++] = i;
+                freeProfit += val[i];
+            }
+        }
+        // All weights > 0 here → cross products compare the ratios exactly, so
+        // this is a total order (ties broken by index)
+        Arrays.sort(sorted, (a, b) -> {
+            int byRatio = Long.compare((long) val[b] * wt[a], (long) val[a] * wt[b]);
+            return byRatio != 0 ? byRatio : Integer.compare(a, b);
+        });
+
+        int m = sorted.length;
+        order = new int[m];
+        prefixWeight = new long[m + 1];
+        prefixProfit = new long[m + 1];
+        for (int k = 0; k < m; k++) {
+            order[k] = sorted[k];
+            prefixWeight[k + 1] = prefixWeight[k] + wt[order[k]];
+            prefixProfit[k + 1] = prefixProfit[k] + val[order[k]];
+        }
+    }
+
+    // Fractional-knapsack bound for items from 'level' on with 'room' capacity left
+    private double bound(int level, long room, long profit) {
+        // last k with prefixWeight[k] - prefixWeight[level] ≤ room
+        long limit = prefixWeight[level] + room;
+        int lo = level, hi = order.length;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (prefixWeight[mid] <= limit)
+                lo = mid;
+            else
+                hi = mid - 1;
+        }
+        double result = profit + (prefixProfit[lo] - prefixProfit[level]);
+        if (lo < order.length) {
+            long left = limit - prefixWeight[lo];
+            long w = prefixWeight[lo + 1] - prefixWeight[lo];
+            result += (double) (prefixProfit[lo + 1] - prefixProfit[lo]) * left / w; // fraction of next item
+        }
+        return result;
+    }
+
+    private Node greedyIncumbent(long W, int wt[], int val[]) {
+        Node path = new Node(0, 0, 0, 0, null, -1);
+        for (int k = 0; k < order.length; k++) {
+            int item = order[k];
+            if (path.weight + wt[item] <= W) {
+                path = new Node(k + 1, path.weight + wt[item], path.profit + val[item], 0,
+                        path.takenItem >= 0 ? path : path.takenBefore, k);
+            }
+        }
+        return path;
+    }
+
+    private KnapsackSolution toSolution(Node node) {
+        int count = 0;
+        for (Node p = node; p != null; p = p.takenBefore) {
+            if (p.takenItem >= 0)
+                count++;
+        }
+        int[] items = Arrays.copyOf(free, free.length + count);
+        int next = free.length;
+        for (Node p = node; p != null; p = p.takenBefore) {
+            if (p.takenItem >= 0)
+                items[next++] = order[p.takenItem];
+        }
+        Arrays.sort(items);
+        return new KnapsackSolution(node.profit + freeProfit, items);
+    }
+}
@@ -0,0 +1,103 @@
+import java.util.Arrays;
+
+// 🔹 KnapsackMeetInTheMiddle — exact 0/1 knapsack for n ≤ 40, any W
+// Trying all 2^n subsets is too slow for n = 40, but 2 x 2^20 is fine:
+//
+// 1️⃣ Split items into halves A and B, list every subset of each half
+//    (weight + profit + which items) in primitive long[] arrays.
+// 2️⃣ Sort B by weight and drop dominated subsets (heavier but not more
+//    profitable) → B's profits now rise with weight.
+// 3️⃣ Walk A by increasing weight while a pointer walks B backwards:
+//    the best partner for each A subset is the heaviest B that still fits.
+//
+// Time O(2^(n/2) * n), memory O(2^(n/2)), independent of W.
+class KnapsackMeetInTheMiddle {
+
+    static final int MAX_ITEMS = 40;
+    private static final int MASK_BITS = 20; // ≤ 20 items per half
+
+    static KnapsackSolution solve(long W, int wt[], int val[], int n) {
+        if (n > MAX_ITEMS)
+            throw new IllegalArgumentException("meet-in-the-middle handles at most " + MAX_ITEMS + " items, got " + n);
+        for (int i = 0; i < n; i++) {
+            if (wt[i] < 0)
+                throw new IllegalArgumentException("negative weight at item " + i);
+        }
+
+        int half = n / 2;
+        long[] profitA = subsetProfits(val, 0, half);
+        long[] profitB = subsetProfits(val, half, n);
+        long[] sortedA = sortedByWeight(wt, 0, half);  // (weight << 20) | mask
+        long[] sortedB = sortedByWeight(wt, half, n);
+
+        // Keep only B subsets that beat every lighter one
+        int frontier = 0;
+        for (long key : sortedB) {
+            if (frontier == 0 || profitB[maskOf(key)] > profitB[maskOf(sortedB[frontier - 1])])
+                sortedB[frontier++] = key;
+        }
+
+        long bestProfit = Long.MIN_VALUE;
+        int bestA = 0, bestB = 0;
+        int j = frontier - 1;
+        for (long keyA : sortedA) {
+            long weightA = keyA >>> MASK_BITS;
+            if (weightA > W)
+                break; // A only gets heavier from here
+            while (j >= 0 && weightA + (sortedB[j] >>> MASK_BITS) > W) {
+                j--; // heaviest B that still fits next to this A
+            }
+            long profit = profitA[maskOf(keyA)] + profitB[maskOf(sortedB[j])];
+            if (profit > bestProfit) {
+                bestProfit = profit;
+                bestA = maskOf(keyA);
+                bestB = maskOf(sortedB[j]);
+            }
+        }
+        if (bestProfit == Long.MIN_VALUE)
+            return new KnapsackSolution(0, new int[0]); // W < 0 → nothing fits
+
+        int[] items = new int[Integer.bitCount(bestA) + Integer.bitCount(bestB)];
+        int next = 0;
+        for (int i = 0; i < half; i++) {
+            if ((bestA >>> i & 1) != 0)
+                items[next++] = i;
+        }
+        for (int i = half; i < n; i++) {
+            if ((bestB >>> (i - half) & 1) != 0)
+                items[next++] = i;
+        }
+        return new KnapsackSolution(bestProfit, items);
+    }
+
+    // profit[mask] for every subset of items [from, to) — each built from a smaller one
+    private static long[] subsetProfits(int val[], int from, int to) {
+        int k = to - from;
+        long[] profit = new long[1 << k];
+        for (int mask = 1; mask < profit.length; mask++) {
+            int low = Integer.numberOfTrailingZeros(mask);
+            profit[mask] = profit[mask & (mask - 1)] + val[from + low];
+        }
+        return profit;
+    }
+
+    // Every subset of items [from, to) packed as (weight << 20) | mask, sorted.
+    // 20 items of < 2^31 each weigh < 2^36, so weight and mask share one long
+    // and a primitive sort orders them with no objects or comparator.
+    private static long[] sortedByWeight(int wt[], int from, int to) {
+        int k = to - from;
+        long[] weight = new long[1 << k];
+        long[] keys = new long[1 << k];
+        for (int mask = 1; mask < keys.length; mask++) {
+            int low = Integer.numberOfTrailingZeros(mask);
+            weight[mask] = weight[mask & (mask - 1)] + wt[from + low];
+            keys[mask] = weight[mask] << MASK_BITS | mask;
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    private static int maskOf(long key) {
+        return (int) (key & ((1 << MASK_BITS) - 1));
+    }
+}
@@ -0,0 +1,17 @@
+import java.util.Arrays;
+
+// 🔹 Answer of a 0/1 knapsack solve: best profit + which items were taken
+class KnapsackSolution {
+    final long profit;  // total profit of the chosen items
+    final int[] items;  // chosen item indices, ascending
+
+    KnapsackSolution(long profit, int[] items) {
+        this.profit = profit;
+        this.items = items;
+    }
+
+    @Override
+    public String toString() {
+        return "profit=" + profit + ", items=" + Arrays.toString(items);
+    }
+}
@@ -0,0 +1,236 @@
+import java.util.PriorityQueue;
+
+// 🔹 OnlineJobScheduler — job sequencing when jobs arrive one at a time
+// Keeps the best (maximum profit) set of jobs that can all meet their
+// deadlines, updated after every offer() instead of re-sorting everything.
+//
+// Idea:
+//   slack(t) = t - (number of kept jobs with deadline ≤ t)
+//   The kept set is feasible as long as slack(t) ≥ 0 for every t.
+//
+//   Offer job j with deadline d:
+//   → if slack(t) ≥ 1 for all t ≥ d, j simply fits → keep it.
+//   → otherwise let t* be the first t ≥ d with slack(t) = 0.
+//     Only a kept job with deadline ≤ t* can make room for j, so find the
+//     lowest-profit one; if j pays more, swap them, else reject j.
+//
+// Both questions are answered by segment trees, so every offer costs O(log T)
+// for a horizon of T slots. Each deadline has its own min-heap of kept jobs.
+class OnlineJobScheduler {
+
+    private final int horizon;           // number of time slots (deadlines above are capped)
+    private final int[] slackMin;        // segment tree: min slack over a time range
+    private final int[] slackLazy;       // pending range additions
+    private final int[] cheapest;        // segment tree: deadline with the cheapest kept job
+    private final PriorityQueue<Kept>[] keptByDeadline; // min-heap by profit, per deadline
+
+    private long totalProfit = 0;
+    private int countJobs = 0;
+    private long displaced = 0;          // jobs pushed out by better ones
+    private long sequence = 0;           // arrival number, breaks profit ties
+
+    // 🔹 One job currently in the schedule
+    private static final class Kept {
+        final long id;
+        final int deadline;
+        final long profit;
+        final long arrival;
+
+        Kept(long id, int deadline, long profit, long arrival) {
+            this.id = id;
+            this.deadline = deadline;
+            this.profit = profit;
+            this.arrival = arrival;
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    OnlineJobScheduler(int horizon) {
+        if (horizon <= 0)
+            throw new IllegalArgumentException("horizon must be positive: " + horizon);
+
+        this.horizon = horizon;
+        slackMin = new int[4 * horizon];
+        slackLazy = new int[4 * horizon];
+        cheapest = new int[4 * horizon];
+        keptByDeadline = new PriorityQueue[horizon + 1];
+        build(1, 1, horizon);
+    }
+
+    // Offers one job; returns true if it is now part of the schedule
+    boolean offer(long id, int deadline, long profit) {
+        if (deadline <= 0)
+            return false; // already past its deadline
+        int d = Math.min(deadline, horizon); // more than 'horizon' jobs never fit anyway
+
+        // Case 1: there is room for one more job with deadline d
+        if (minSlack(1, 1, horizon, d, horizon) >= 1) {
+            keep(new Kept(id, d, profit, sequence++));
+            return true;
+        }
+
+        // Case 2: full → find the cheapest job that could give up its slot
+        int tight = firstTight(1, 1, horizon, d);
+        int victimDeadline = cheapestUpTo(1, 1, horizon, tight);
+        if (victimDeadline == 0)
+            return false;
+
+        Kept victim = keptByDeadline[victimDeadline].peek();
+        if (victim.profit >= profit)
+            return false; // everything that could move is worth at least as much
+
+        drop(victim);
+        displaced++;
+        keep(new Kept(id, d, profit, sequence++));
+        return true;
+    }
+
+    long totalProfit() {
+        return totalProfit;
+    }
+
+    int countJobs() {
+        return countJobs;
+    }
+
+    long displacedCount() {
+        return displaced;
+    }
+
+    // Ids of kept jobs in a valid execution order (earliest deadline first)
+    long[] sequence() {
+        long[] ids = new long[countJobs];
+        int next = 0;
+        for (int d = 1; d <= horizon; d++) {
+            PriorityQueue<Kept> heap = keptByDeadline[d];
+            if (heap == null)
+                continue;
+            for (Kept job : heap) {
+                ids[next++] = job.id;
+            }
+        }
+        return ids;
+    }
+
+    private void keep(Kept job) {
+        PriorityQueue<Kept> heap = keptByDeadline[job.deadline];
+        if (heap == null) {
+            heap = new PriorityQueue<>((a, b) -> a.profit != b.profit
+                    ? Long.compare(a.profit, b.profit)
+                    : Long.compare(b.arrival, a.arrival)); // on ties, newest leaves first
+            keptByDeadline[job.deadline] = heap;
+        }
+        heap.add(job);
+        addSlack(1, 1, horizon, job.deadline, horizon, -1);
+        refreshCheapest(1, 1, horizon, job.deadline);
+        totalProfit += job.profit;
+        countJobs++;
+    }
+
+    private void drop(Kept job) {
+        keptByDeadline[job.deadline].poll();
+        addSlack(1, 1, horizon, job.deadline, horizon, +1);
+        refreshCheapest(1, 1, horizon, job.deadline);
+        totalProfit -= job.profit;
+        countJobs--;
+    }
+
+    // ---------------------------------------------------------
+    // 🌲 Segment tree helpers
+    // ---------------------------------------------------------
+
+    private void build(int node, int lo, int hi) {
+        if (lo == hi) {
+            slackMin[node] = lo; // empty schedule → slack(t) = t
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        build(2 * node, lo, mid);
+        build(2 * node + 1, mid + 1, hi);
+        slackMin[node] = Math.min(slackMin[2 * node], slackMin[2 * node + 1]);
+    }
+
+    private void push(int node) {
+        if (slackLazy[node] != 0) {
+            for (int child = 2 * node; child <= 2 * node + 1; child++) {
+                slackMin[child] += slackLazy[node];
+                slackLazy[child] += slackLazy[node];
+            }
+            slackLazy[node] = 0;
+        }
+    }
+
+    private void addSlack(int node, int lo, int hi, int from, int to, int delta) {
+        if (to < lo || hi < from)
+            return;
+        if (from <= lo && hi <= to) {
+            slackMin[node] += delta;
+            slackLazy[node] += delta;
+            return;
+        }
+        push(node);
+        int mid = (lo + hi) >>> 1;
+        addSlack(2 * node, lo, mid, from, to, delta);
+        addSlack(2 * node + 1, mid + 1, hi, from, to, delta);
+        slackMin[node] = Math.min(slackMin[2 * node], slackMin[2 * node + 1]);
+    }
+
+    private int minSlack(int node, int lo, int hi, int from, int to) {
+        if (to < lo || hi < from)
+            return Integer.MAX_VALUE;
+        if (from <= lo && hi <= to)
+            return slackMin[node];
+        push(node);
+        int mid = (lo + hi) >>> 1;
+        return Math.min(minSlack(2 * node, lo, mid, from, to), minSlack(2 * node + 1, mid + 1, hi, from, to));
+    }
+
+    // First t ≥ from with slack(t) == 0 (slack never goes below 0), or 0 if none
+    private int firstTight(int node, int lo, int hi, int from) {
+        if (hi < from || slackMin[node] > 0)
+            return 0;
+        if (lo == hi)
+            return lo;
+        push(node);
+        int mid = (lo + hi) >>> 1;
+        int left = firstTight(2 * node, lo, mid, from);
+        return left != 0 ? left : firstTight(2 * node + 1, mid + 1, hi, from);
+    }
+
+    private long topProfit(int deadline) {
+        PriorityQueue<Kept> heap = keptByDeadline[deadline];
+        return heap == null || heap.isEmpty() ? Long.MAX_VALUE : heap.peek().profit;
+    }
+
+    // Deadline (in [lo, hi]) whose heap top is cheapest, 0 if all empty
+    private int cheaper(int a, int b) {
+        if (a == 0)
+            return b;
+        if (b == 0)
+            return a;
+        return topProfit(b) < topProfit(a) ? b : a;
+    }
+
+    private void refreshCheapest(int node, int lo, int hi, int deadline) {
+        if (lo == hi) {
+            PriorityQueue<Kept> heap = keptByDeadline[lo];
+            cheapest[node] = heap == null || heap.isEmpty() ? 0 : lo;
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (deadline <= mid)
+            refreshCheapest(2 * node, lo, mid, deadline);
+        else
+            refreshCheapest(2 * node + 1, mid + 1, hi, deadline);
+        cheapest[node] = cheaper(cheapest[2 * node], cheapest[2 * node + 1]);
+    }
+
+    private int cheapestUpTo(int node, int lo, int hi, int to) {
+        if (to < lo)
+            return 0;
+        if (hi <= to)
+            return cheapest[node];
+        int mid = (lo + hi) >>> 1;
+        return cheaper(cheapestUpTo(2 * node, lo, mid, to), cheapestUpTo(2 * node + 1, mid + 1, hi, to));
+    }
+}
@@ -0,0 +1,205 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.IntUnaryOperator;
+
+// 🔹 ParallelJobScheduler — job sequencing for a JobBatch on several cores
+// Gives exactly the same schedule (same job in every slot) as
+// JobBatch.schedule():
+//
+// 1️⃣ Ordering (parallel): stable LSD radix sort on profit. Each chunk of
+//    jobs builds its own digit histogram, then scatters into its own reserved
+//    ranges, so chunks never write to the same place and the result is
+//    deterministic.
+//
+// 2️⃣ Placement (sequential): the same disjoint-set pass as JobBatch. Which
+//    jobs spill past a slot range into the ones to its left depends on how
+//    their profits interleave with every job further right, so cutting the
+//    slots into blocks still leaves a serial merge that re-places about as
+//    many jobs as the whole pass → only the sort is split across cores.
+//
+// A scheduler whose parallelism differs from the common pool's owns a
+// ForkJoinPool of its own → close() it (try-with-resources) when done.
+class ParallelJobScheduler implements AutoCloseable {
+
+    // Below this many jobs the thread hand-off costs more than it saves
+    static final int SEQUENTIAL_THRESHOLD = 1 << 15;
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;  // false → the common pool, never shut down here
+    private final int parallelism;
+
+    ParallelJobScheduler(int parallelism) {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        this.parallelism = parallelism;
+        this.ownsPool = parallelism != ForkJoinPool.getCommonPoolParallelism();
+        this.pool = ownsPool ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool();
+    }
+
+    // Releases the worker threads of a pool this scheduler created
+    @Override
+    public void close() {
+        if (ownsPool)
+            pool.shutdown();
+    }
+
+    JobBatch.Schedule schedule(JobBatch batch, SolverMetrics metrics) {
+        if (batch.size() < SEQUENTIAL_THRESHOLD || parallelism == 1)
+            return batch.schedule(metrics);
+
+        metrics.start();
+        JobBatch.Schedule schedule = batch.place(orderByProfitDescending(batch), metrics);
+        metrics.stop();
+        return schedule;
+    }
+
+    // ---------------------------------------------------------
+    // 1️⃣ Parallel stable radix sort (same order as JobBatch)
+    // ---------------------------------------------------------
+    int[] orderByProfitDescending(JobBatch batch) {
+        int size = batch.size();
+        long[] keys = new long[size];
+        int[] identity = new int[size];
+        run(chunks(size), (chunk, from, to) -> {
+            for (int i = from; i < to; i++) {
+                identity[i] = i;
+                keys[i] = ~(batch.profit(i) ^ Long.MIN_VALUE); // ascending key = descending profit
+            }
+        });
+
+        int[] order = identity;
+        int[] buffer = new int[size];
+        for (int shift = 0; shift < 64; shift += 16) {
+            final int s = shift;
+            if (stableScatter(order, buffer, job -> (int) (keys[job] >>> s) & 0xFFFF, 1 << 16)) {
+                int[] swap = order;
+                order = buffer;
+                buffer = swap;
+            }
+        }
+        return order;
+    }
+
+    // Stable counting scatter of src into dst by bucket, chunk by chunk in parallel.
+    // Returns false (and leaves dst untouched) when every element shares one bucket.
+    private boolean stableScatter(int[] src, int[] dst, IntUnaryOperator bucketOf, int buckets) {
+        int[][] ranges = chunks(src.length);
+        int[][] count = new int[ranges.length][buckets];
+
+        run(ranges, (chunk, from, to) -> {
+            int[] mine = count[chunk];
+            for (int i = from; i < to; i++) {
+                mine[bucketOf.applyAsInt(src[i])]++;
+            }
+        });
+
+        // Bucket-major, chunk-minor offsets keep the scatter stable
+        int position = 0;
+        for (int b = 0; b < buckets; b++) {
+            int total = 0;
+            for (int[] mine : count) {
+                total += mine[b];
+            }
+            if (total == src.length)
+                return false; // single bucket → nothing would move
+            for (int[] mine : count) {
+                int c = mine[b];
+                mine[b] = position;
+                position += c;
+            }
+        }
+
+        run(ranges, (chunk, from, to) -> {
+            int[] next = count[chunk];
+            for (int i = from; i < to; i++) {
+                dst[next[bucketOf.applyAsInt(src[i])]++] = src[i];
+            }
+        });
+        return true;
+    }
+
+    // ---------------------------------------------------------
+    // 🧵 Fork/join plumbing
+    // ---------------------------------------------------------
+    private interface RangeTask {
+        void run(int chunk, int from, int to);
+    }
+
+    // Splits [0, size) into one contiguous range per worker
+    private int[][] chunks(int size) {
+        int count = Math.max(1, Math.min(parallelism, size));
+        int[][] ranges = new int[count][];
+        for (int c = 0; c < count; c++) {
+            ranges[c] = new int[] { (int) ((long) size * c / count), (int) ((long) size * (c + 1) / count) };
+        }
+        return ranges;
+    }
+
+    private void run(int[][] ranges, RangeTask task) {
+        List<Callable<Void>> tasks = new ArrayList<>(ranges.length);
+        for (int c = 0; c < ranges.length; c++) {
+            final int chunk = c;
+            tasks.add(() -> {
+                task.run(chunk, ranges[chunk][0], ranges[chunk][1]);
+                return null;
+            });
+        }
+        invokeAll(tasks);
+    }
+
+    private void invokeAll(List<Callable<Void>> tasks) {
+        for (Future<Void> done : pool.invokeAll(tasks)) {
+            try {
+                done.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("scheduling interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("scheduling task failed", e.getCause());
+            }
+        }
+    }
+
+    // ---------------------------------------------------------
+    // ✅ Self-check: java ParallelJobScheduler [batches]
+    // ---------------------------------------------------------
+    // Random batches (spread, tight and all-equal deadlines; few distinct
+    // profits so ties are common; some negative values) must give the same
+    // order and the same job in every slot as JobBatch, for 2 to 16 workers.
+    public static void main(String[] args) {
+        int batches = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int[] workers = { 2, 3, 4, 16 };
+        SplittableRandom random = new SplittableRandom(2024);
+        for (int b = 0; b < batches; b++) {
+            int size = SEQUENTIAL_THRESHOLD + random.nextInt(3 * SEQUENTIAL_THRESHOLD);
+            int deadlineRange = b % 3 == 0 ? size : b % 3 == 1 ? size / 8 : 1;
+            int profitRange = b % 2 == 0 ? 1_000_000 : 16;
+            JobBatch batch = new JobBatch(size);
+            for (int i = 0; i < size; i++) {
+                int deadline = b % 3 == 2 ? size : random.nextInt(-2, deadlineRange + 1);
+                batch.add(i, deadline, random.nextInt(-profitRange / 8, profitRange));
+            }
+            int[] order = batch.orderByProfitDescending();
+            JobBatch.Schedule expected = batch.schedule(SolverMetrics.NONE);
+            for (int p : workers) {
+                try (ParallelJobScheduler scheduler = new ParallelJobScheduler(p)) {
+                    JobBatch.Schedule actual = scheduler.schedule(batch, SolverMetrics.NONE);
+                    if (!Arrays.equals(order, scheduler.orderByProfitDescending(batch))
+                            || !Arrays.equals(expected.slotJob, actual.slotJob)
+                            || expected.totalProfit != actual.totalProfit || expected.countJobs != actual.countJobs) {
+                        System.out.println("❌ batch " + b + " (" + size + " jobs, " + p + " workers) differs");
+                        System.exit(1);
+                    }
+                }
+            }
+        }
+        System.out.println("✅ " + batches + " random batches: same order and schedule for "
+                + Arrays.toString(workers) + " workers");
+    }
+}
@@ -0,0 +1,269 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 🔹 PisanoFibonacci — F(n) mod m for a few fixed moduli, n up to 10^18
+// F(n) mod m repeats with a fixed period π(m), the Pisano period
+// (mod 2: 0 1 1 0 1 1 ... → π(2) = 3), so F(n) mod m = F(n mod π(m)) mod m.
+//
+// Per modulus, worked out once and cached:
+//   → π(m) from the prime factors of m:
+//       π(m) = lcm of π(p^k) over m = Π p^k
+//       π(p^k) divides p^(k-1) * base(p), where base(p) = p - 1 if p ≡ ±1 (mod 5),
+//       2(p + 1) if p ≡ ±2 (mod 5), 3 for p = 2 and 20 for p = 5.
+//     Prime factors are divided out of that multiple while (F(N), F(N+1))
+//     ≡ (0, 1) still holds → the exact smallest period.
+//   → π(m) ≤ TABLE_LIMIT → table of F(0..π-1) mod m → every query is O(1)
+//   → longer period → n mod π(m), then long fast doubling
+//     (ASS1_Fibonacci.fibonacciMod) → O(log π), no allocation
+// Factoring uses Miller–Rabin + Pollard's rho, so even 10^18-sized moduli
+// are ready in milliseconds.
+class PisanoFibonacci {
+
+    static final int TABLE_LIMIT = 1 << 18;        // ≤ 2 MB per table
+    static final int MAX_CACHED_MODULI = 64;       // beyond this, the least recently used is evicted
+    // π(m) ≤ 6m, and the multiples tried on the way must fit a long too
+    private static final long MAX_PERIOD_MODULUS = Long.MAX_VALUE / 8;
+
+    private static final EngineCache CACHE = new EngineCache();
+
+    private final long modulus;
+    private final long period;   // π(m), or 0 if m is too large to work it out
+    private final long[] table;  // F(0..π-1) mod m, or null
+
+    private PisanoFibonacci(long modulus) {
+        this.modulus = modulus;
+        this.period = modulus <= MAX_PERIOD_MODULUS ? pisanoPeriod(modulus) : 0;
+        if (period > 0 && period <= TABLE_LIMIT) {
+            table = new long[(int) period];
+            long a = 0, b = 1 % modulus;
+            for (int i = 0; i < table.length; i++) {
+                table[i] = a;
+                long next = ASS1_Fibonacci.addMod(a, b, modulus);
+                a = b;
+                b = next;
+            }
+        } else {
+            table = null;
+        }
+    }
+
+    // 🔹 Engines by modulus, access-ordered → LRU with MAX_CACHED_MODULI entries
+    private static final class EngineCache extends LinkedHashMap<Long, PisanoFibonacci> {
+        private static final long serialVersionUID = 1L;
+
+        EngineCache() {
+            super(16, 0.75f, true); // access order → LRU
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, PisanoFibonacci> eldest) {
+            return size() > MAX_CACHED_MODULI;
+        }
+    }
+
+    // Engine for modulus m (cached, so its period is worked out only once
+    // while m stays among the MAX_CACHED_MODULI most recently used)
+    static PisanoFibonacci forModulus(long m) {
+        if (m <= 0)
+            throw new IllegalArgumentException("modulus must be positive: " + m);
+        synchronized (CACHE) {
+            PisanoFibonacci engine = CACHE.get(m);
+            if (engine != null)
+                return engine;
+        }
+        PisanoFibonacci engine = new PisanoFibonacci(m); // factoring + table outside the lock
+        synchronized (CACHE) {
+            PisanoFibonacci raced = CACHE.putIfAbsent(m, engine);
+            return raced != null ? raced : engine;
+        }
+    }
+
+    // F(n) mod m
+    static long fibonacci(long n, long m) {
+        return forModulus(m).get(n);
+    }
+
+    // F(n) mod m for every n in queries
+    static long[] fibonacci(long[] queries, long m) {
+        return forModulus(m).getAll(queries);
+    }
+
+    long modulus() {
+        return modulus;
+    }
+
+    // π(m), or 0 if m is too large for the period to be worked out
+    long period() {
+        return period;
+    }
+
+    boolean hasTable() {
+        return table != null;
+    }
+
+    long get(long n) {
+        if (n < 0)
+            throw new IllegalArgumentException("n must be non-negative: " + n);
+        if (table != null)
+            return table[(int) (n % period)];
+        return ASS1_Fibonacci.fibonacciMod(period > 0 ? n % period : n, modulus);
+    }
+
+    long[] getAll(long[] queries) {
+        long[] out = new long[queries.length];
+        getAll(queries, out);
+        return out;
+    }
+
+    // out[i] = F(queries[i]) mod m; allocates nothing, so one out[] can be reused
+    void getAll(long[] queries, long[] out) {
+        if (out.length < queries.length)
+            throw new IllegalArgumentException("output array shorter than queries");
+        if (table != null) {
+            for (int i = 0; i < queries.length; i++) {
+                long n = queries[i];
+                if (n < 0)
+                    throw new IllegalArgumentException("n must be non-negative: " + n);
+                out[i] = table[(int) (n % period)];
+            }
+            return;
+        }
+        for (int i = 0; i < queries.length; i++) {
+            out[i] = get(queries[i]);
+        }
+    }
+
+    // ---------------------------------------------------------
+    // 🔁 Pisano period
+    // ---------------------------------------------------------
+    static long pisanoPeriod(long m) {
+        if (m <= 0 || m > MAX_PERIOD_MODULUS)
+            throw new IllegalArgumentException("modulus out of range: " + m);
+        long period = 1;
+        for (Map.Entry<Long, Integer> primePower : factor(m).entrySet()) {
+            long p = primePower.getKey();
+            int k = primePower.getValue();
+            long q = power(p, k);
+
+            // N = p^(k-1) * base(p) is a multiple of π(p^k); shrink it to the smallest
+            long base = p == 2 ? 3 : p == 5 ? 20 : (p % 5 == 1 || p % 5 == 4) ? p - 1 : 2 * (p + 1);
+            TreeMap<Long, Integer> factors = factor(base);
+            if (k > 1)
+                factors.merge(p, k - 1, Integer::sum);
+            long n = power(p, k - 1) * base;
+            for (Map.Entry<Long, Integer> f : factors.entrySet()) {
+                long r = f.getKey();
+                for (int e = 0; e < f.getValue() && isPeriod(n / r, q); e++) {
+                    n /= r;
+                }
+            }
+            period = period / gcd(period, n) * n; // lcm
+        }
+        return period;
+    }
+
+    // (F(n), F(n+1)) ≡ (0, 1) mod q → the sequence restarts after n steps
+    private static boolean isPeriod(long n, long q) {
+        return ASS1_Fibonacci.fibonacciMod(n, q) == 0 && ASS1_Fibonacci.fibonacciMod(n + 1, q) == 1;
+    }
+
+    // ---------------------------------------------------------
+    // 🔢 Factoring (trial division + Miller–Rabin + Pollard's rho)
+    // ---------------------------------------------------------
+    // Prime → exponent, ascending
+    static TreeMap<Long, Integer> factor(long n) {
+        TreeMap<Long, Integer> factors = new TreeMap<>();
+        for (long p = 2; p < 100 && p * p <= n; p++) {
+            while (n % p == 0) {
+                factors.merge(p, 1, Integer::sum);
+                n /= p;
+            }
+        }
+        splitInto(n, factors);
+        return factors;
+    }
+
+    private static void splitInto(long n, TreeMap<Long, Integer> factors) {
+        if (n == 1)
+            return;
+        if (isPrime(n)) {
+            factors.merge(n, 1, Integer::sum);
+            return;
+        }
+        long d = rho(n);
+        splitInto(d, factors);
+        splitInto(n / d, factors);
+    }
+
+    // Deterministic for every 64-bit n with these bases
+    static boolean isPrime(long n) {
+        if (n < 2)
+            return false;
+        long[] bases = { 2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37 };
+        for (long p : bases) {
+            if (n % p == 0)
+                return n == p;
+        }
+        long d = n - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>= s;
+        for (long a : bases) {
+            long x = powMod(a, d, n);
+            if (x == 1 || x == n - 1)
+                continue;
+            boolean composite = true;
+            for (int r = 1; r < s && composite; r++) {
+                x = ASS1_Fibonacci.mulMod(x, x, n);
+                composite = x != n - 1;
+            }
+            if (composite)
+                return false;
+        }
+        return true;
+    }
+
+    // Some non-trivial divisor of an odd composite n (Pollard's rho, Floyd cycle)
+    private static long rho(long n) {
+        for (long c = 1; ; c++) {
+            long x = 2, y = 2, d = 1;
+            while (d == 1) {
+                x = ASS1_Fibonacci.addMod(ASS1_Fibonacci.mulMod(x, x, n), c, n);
+                y = ASS1_Fibonacci.addMod(ASS1_Fibonacci.mulMod(y, y, n), c, n);
+                y = ASS1_Fibonacci.addMod(ASS1_Fibonacci.mulMod(y, y, n), c, n);
+                d = gcd(Math.abs(x - y), n);
+            }
+            if (d != n)
+                return d; // d == n → unlucky cycle, retry with another c
+        }
+    }
+
+    private static long powMod(long a, long e, long m) {
+        long result = 1 % m;
+        a %= m;
+        while (e > 0) {
+            if ((e & 1) == 1)
+                result = ASS1_Fibonacci.mulMod(result, a, m);
+            a = ASS1_Fibonacci.mulMod(a, a, m);
+            e >>>= 1;
+        }
+        return result;
+    }
+
+    private static long power(long p, int k) {
+        long result = 1;
+        for (int i = 0; i < k; i++) {
+            result *= p;
+        }
+        return result;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
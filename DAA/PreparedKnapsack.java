@@ -0,0 +1,107 @@
+// 🔹 PreparedKnapsack — one 0/1 knapsack row kept between questions
+// knapSack() builds the whole table and throws away everything except
+// dp[n][W]. But the last row already answers every capacity:
+//
+//   row[c] = best profit of the items added so far with total weight ≤ c
+//
+// So keep the row instead:
+//   → maxProfit(c) for any c ≤ maxCapacity   O(1)
+//   → add(weight, profit)                    O(W)  (one backward pass)
+//
+// Snapshots are copy-on-write: snapshot() just hands out the current row and
+// marks it shared, and the next add() copies it first. So what-if branches
+// ("add these items" vs "add those") each start from the same prepared
+// prefix without recomputing it, and snapshot/restore cost O(1).
+class PreparedKnapsack {
+
+    // 🔹 Saved state: the row and how many items it covers (never modified)
+    static final class Snapshot {
+        private final long[] row;
+        private final int items;
+
+        private Snapshot(long[] row, int items) {
+            this.row = row;
+            this.items = items;
+        }
+
+        int items() {
+            return items;
+        }
+    }
+
+    private long[] row;
+    private int items;
+    private boolean shared; // row is also held by a snapshot → copy before writing
+
+    PreparedKnapsack(int maxCapacity) {
+        this(maxCapacity, ASS4_01KnapsackDP.DEFAULT_MEMORY_BUDGET_BYTES);
+    }
+
+    // The row must fit budgetBytes (see ASS4_01KnapsackDP.DEFAULT_MEMORY_BUDGET_BYTES)
+    PreparedKnapsack(int maxCapacity, long budgetBytes) {
+        if (maxCapacity < 0)
+            throw new IllegalArgumentException("negative capacity " + maxCapacity);
+        ASS4_01KnapsackDP.checkMemoryBudget(maxCapacity + 1L, Long.BYTES, "prepared row", budgetBytes);
+        row = new long[maxCapacity + 1];
+    }
+
+    // Prepared solver over the first n items
+    static PreparedKnapsack of(int maxCapacity, int wt[], int val[], int n) {
+        return of(maxCapacity, wt, val, n, ASS4_01KnapsackDP.DEFAULT_MEMORY_BUDGET_BYTES);
+    }
+
+    static PreparedKnapsack of(int maxCapacity, int wt[], int val[], int n, long budgetBytes) {
+        PreparedKnapsack knapsack = new PreparedKnapsack(maxCapacity, budgetBytes);
+        for (int i = 0; i < n; i++) {
+            knapsack.add(wt[i], val[i]);
+        }
+        return knapsack;
+    }
+
+    int maxCapacity() {
+        return row.length - 1;
+    }
+
+    // Number of items added so far
+    int size() {
+        return items;
+    }
+
+    // Appends one item → one backward pass over the row, O(W)
+    void add(int weight, int profit) {
+        if (weight < 0)
+            throw new IllegalArgumentException("negative weight " + weight);
+        if (shared) {
+            row = row.clone();
+            shared = false;
+        }
+        for (int w = row.length - 1; w >= weight; w--) { // backward → item used once
+            long include = profit + row[w - weight];
+            if (include > row[w])
+                row[w] = include;
+        }
+        items++;
+    }
+
+    // Best profit with capacity c → O(1)
+    long maxProfit(int capacity) {
+        if (capacity < 0 || capacity >= row.length)
+            throw new IllegalArgumentException("capacity " + capacity + " outside 0.." + maxCapacity());
+        return row[capacity];
+    }
+
+    Snapshot snapshot() {
+        shared = true;
+        return new Snapshot(row, items);
+    }
+
+    // Back to a snapshot taken from a solver with the same max capacity
+    void restore(Snapshot snapshot) {
+        if (snapshot.row.length != row.length)
+            throw new IllegalArgumentException("snapshot is for capacity " + (snapshot.row.length - 1)
+                    + ", this solver has " + maxCapacity());
+        row = snapshot.row;
+        items = snapshot.items;
+        shared = true;
+    }
+}
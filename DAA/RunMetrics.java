@@ -0,0 +1,88 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// 🔹 Counting implementation of SolverMetrics
+// Counters are LongAdders, so parallel solvers can report into the same
+// object without losing updates. Start time is kept per thread.
+class RunMetrics implements SolverMetrics {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAccumulator maxDepth = new LongAccumulator(Math::max, 0);
+    private final LongAdder wallNanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+
+    // { start nanoTime, allocated bytes at start } for the current thread
+    private final ThreadLocal<long[]> started = ThreadLocal.withInitial(() -> new long[2]);
+
+    @Override
+    public void start() {
+        long[] mark = started.get();
+        mark[0] = System.nanoTime();
+        mark[1] = threadAllocatedBytes();
+    }
+
+    @Override
+    public void stop() {
+        long[] mark = started.get();
+        wallNanos.add(System.nanoTime() - mark[0]);
+        long allocated = threadAllocatedBytes();
+        if (allocated >= 0 && mark[1] >= 0)
+            allocatedBytes.add(allocated - mark[1]);
+    }
+
+    @Override
+    public void call(int depth) {
+        calls.increment();
+        maxDepth.accumulate(depth);
+    }
+
+    @Override
+    public void iteration() {
+        iterations.increment();
+    }
+
+    @Override
+    public void iterations(long count) {
+        iterations.add(count);
+    }
+
+    long calls() {
+        return calls.sum();
+    }
+
+    long iterations() {
+        return iterations.sum();
+    }
+
+    long maxDepth() {
+        return maxDepth.get();
+    }
+
+    long wallNanos() {
+        return wallNanos.sum();
+    }
+
+    // Bytes allocated by the measured thread(s), or 0 if the JVM can't tell
+    long allocatedBytes() {
+        return allocatedBytes.sum();
+    }
+
+    // HotSpot exposes per-thread allocation; other JVMs return -1
+    private static long threadAllocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return "calls=" + calls() + ", iterations=" + iterations() + ", maxDepth=" + maxDepth()
+                + ", time=" + wallNanos() / 1_000 + "us, allocated=" + allocatedBytes() + "B";
+    }
+}
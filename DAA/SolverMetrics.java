@@ -0,0 +1,24 @@
+// 📊 SolverMetrics — shared step counting for all DAA solvers
+// Every solver (Fibonacci, Job Sequencing, both Knapsacks) takes one of these
+// and reports into it instead of bumping a global static counter.
+//
+// SolverMetrics.NONE does nothing, so when metrics are off the JIT
+// inlines the empty calls away and the solvers run at full speed.
+interface SolverMetrics {
+
+    SolverMetrics NONE = new SolverMetrics() { };
+
+    // Mark the start / end of one solve (wall time + allocated bytes)
+    default void start() { }
+
+    default void stop() { }
+
+    // One function call made at the given recursion depth (top level = 1)
+    default void call(int depth) { }
+
+    // One loop iteration (or table cell, or slot probe)
+    default void iteration() { }
+
+    // Several iterations at once, for loops that count in bulk
+    default void iterations(long count) { }
+}
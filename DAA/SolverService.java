@@ -0,0 +1,528 @@
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// 🔹 SolverService — all four DAA solvers behind one long-running local socket
+// Every interactive main pays JVM start-up and JIT warm-up on each run. This
+// service stays up, so repeated solves run on warm, compiled code.
+//
+// Protocol: one request per line, one response line per request, in order.
+// The numbers after the command are the same ones the interactive program
+// reads, in the same order:
+//
+//   fib <n>                               → OK F(n)
+//   fibmod <n> <m>                        → OK F(n) mod m
+//   jobs <n> (<deadline> <profit>) x n    → OK profit=.. jobs=..
+//   fractional <n> (<weight> <profit>) x n <capacity>   → OK <max profit>
+//   knapsack <n> (<profit> <weight>) x n <W>            → OK <max profit>
+//   stats                                 → OK requests=.. p50=..us p99=..us ...
+//                                           (latency of every admitted request,
+//                                            errors and timeouts included)
+//
+// Errors come back as "ERR <message>", and "BUSY" when the queue is full.
+//
+// Each request runs on its own virtual thread (JDK 21+). On older JDKs the
+// executor is looked up reflectively, and a fixed pool of platform threads
+// is used instead. A semaphore caps the requests in flight (running + queued):
+// a full queue answers BUSY at once instead of piling up work (backpressure).
+//
+// Budgets per request:
+//   → memory: a line is buffered only after its request is admitted (and at
+//     most the budget of it), then the input size and the solver's main table
+//     are estimated before anything is allocated; over budget → ERR
+//   → time: solvers report progress through SolverMetrics, and the budget's
+//     metrics throw once the deadline passes, so the solve stops at its next
+//     report and frees its slot. A single step can't be cut short (one big
+//     BigInteger product, F(n).toString()), so fib caps n from the time budget.
+//
+// Connections: one virtual thread each, or on JDK 17 a pool of at most
+// MAX_CONNECTIONS platform threads; a connection beyond that is closed at once.
+class SolverService implements Closeable {
+
+    // Decimal digits of F(n) can't be produced in steps → n ≤ timeout (ms) * this
+    static final long FIB_N_PER_MILLI = 1_000;
+    static final int MAX_CONNECTIONS = 256;
+
+    private final ServerSocket server;
+    private final ExecutorService connections;
+    private final ExecutorService solvers;
+    private final boolean virtualThreads;
+    private final Semaphore admission;      // the bounded queue: running + waiting requests
+    private final long timeoutMillis;
+    private final long memoryBudgetBytes;
+
+    // 📊 Counters
+    private final long startNanos = System.nanoTime();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    SolverService(int port, int workers, int queueCapacity, long timeoutMillis, long memoryBudgetBytes)
+            throws IOException {
+        if (workers <= 0 || queueCapacity < 0)
+            throw new IllegalArgumentException("workers must be positive and queue capacity non-negative");
+        this.server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.timeoutMillis = timeoutMillis;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.admission = new Semaphore(workers + queueCapacity);
+
+        ExecutorService virtual = newVirtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.solvers = virtualThreads ? virtual : Executors.newFixedThreadPool(workers, SolverService::daemon);
+        this.connections = virtualThreads ? newVirtualThreadExecutor()
+                : new ThreadPoolExecutor(0, MAX_CONNECTIONS, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                        SolverService::daemon);
+    }
+
+    int port() {
+        return server.getLocalPort();
+    }
+
+    boolean usesVirtualThreads() {
+        return virtualThreads;
+    }
+
+    // Accepts connections until the server socket is closed
+    void serve() {
+        while (!server.isClosed()) {
+            try {
+                Socket socket = server.accept();
+                try {
+                    connections.execute(() -> handle(socket));
+                } catch (RejectedExecutionException e) {
+                    socket.close(); // every connection thread busy → refuse rather than queue
+                }
+            } catch (IOException e) {
+                if (!server.isClosed())
+                    System.err.println("⚠️ accept failed: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        connections.shutdownNow();
+        solvers.shutdownNow();
+    }
+
+    // ---------------------------------------------------------
+    // 🔌 One connection: read a line, solve it, answer it
+    // ---------------------------------------------------------
+    private void handle(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             PrintStream out = new PrintStream(socket.getOutputStream(), false, StandardCharsets.UTF_8)) {
+            LineReader lines = new LineReader(in);
+            String command;
+            while ((command = lines.command()) != null) {
+                out.println(respond(command, lines));
+                out.flush();
+            }
+        } catch (IOException e) {
+            // client went away → nothing to answer
+        }
+    }
+
+    // Only the command word has been read so far; the rest of the line is
+    // buffered after admission, so at most workers + queue lines are held
+    private String respond(String command, LineReader lines) throws IOException {
+        if (command.isEmpty()) {
+            lines.skipLine();
+            return "ERR empty request";
+        }
+        if (command.equals("stats")) {
+            lines.skipLine();
+            return "OK " + stats();
+        }
+
+        requests.increment();
+        if (!admission.tryAcquire()) {
+            lines.skipLine(); // a rejected request is never buffered
+            rejected.increment();
+            return "BUSY";
+        }
+        long started = System.nanoTime();
+        try {
+            return run(command, lines, started);
+        } finally {
+            // every admitted request counts → timeouts and errors show up in p99
+            latency.record((System.nanoTime() - started) / 1_000);
+        }
+    }
+
+    // Reads and solves an admitted request; its permit goes back once no
+    // solver holds its bytes any more
+    private String run(String command, LineReader lines, long started) throws IOException {
+        Future<String> result = null;
+        try {
+            LineBuffer rest = lines.rest(memoryBudgetBytes);
+            if (rest == null) {
+                failed.increment();
+                return "ERR request line over the " + memoryBudgetBytes / (1 << 20) + " MB memory budget";
+            }
+            result = solvers.submit(() -> {
+                try {
+                    FastReader reader = FastReader.of(rest.input());
+                    return solve(command, reader, new RequestBudget(started + timeoutMillis * 1_000_000L));
+                } finally {
+                    admission.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            failed.increment();
+            return "ERR service stopping";
+        } finally {
+            if (result == null)
+                admission.release(); // never reached a solver
+        }
+
+        try {
+            // the budget stops the solver itself; this is the backstop for
+            // solvers that don't report progress often enough
+            String answer = result.get(2 * timeoutMillis + 100, TimeUnit.MILLISECONDS);
+            completed.increment();
+            return "OK " + answer;
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            failed.increment();
+            return "ERR time budget of " + timeoutMillis + " ms exceeded";
+        } catch (ExecutionException e) {
+            failed.increment();
+            Throwable cause = e.getCause();
+            if (cause instanceof NoSuchElementException)
+                return "ERR request ends before all numbers were given";
+            return "ERR " + (cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.increment();
+            return "ERR interrupted";
+        }
+    }
+
+    // 🔹 One request line, read in two steps: the command word (a few bytes,
+    // before any permit is taken), then the numbers (only once admitted)
+    private static final class LineReader {
+        private static final int MAX_COMMAND_BYTES = 16; // longer words can't be a command anyway
+
+        private final InputStream in;
+        private boolean lineEnded = true; // last read stopped at '\n' or end of stream
+
+        LineReader(InputStream in) {
+            this.in = in;
+        }
+
+        // Command word of the next line, or null at end of stream
+        String command() throws IOException {
+            skipLine();
+            int c = in.read();
+            if (c < 0)
+                return null;
+            byte[] word = new byte[MAX_COMMAND_BYTES];
+            int length = 0;
+            while (c > ' ') {
+                if (length < word.length)
+                    word[length++] = (byte) c;
+                c = in.read();
+            }
+            lineEnded = c < 0 || c == '\n';
+            return new String(word, 0, length, StandardCharsets.US_ASCII);
+        }
+
+        void skipLine() throws IOException {
+            if (lineEnded)
+                return;
+            int c;
+            do {
+                c = in.read();
+            } while (c >= 0 && c != '\n');
+            lineEnded = true;
+        }
+
+        // Rest of the line, or null (and skipped) once it grows past limit bytes
+        LineBuffer rest(long limit) throws IOException {
+            LineBuffer rest = new LineBuffer();
+            int c;
+            while (!lineEnded && (c = in.read()) >= 0 && c != '\n') {
+                if (rest.size() >= limit) {
+                    skipLine();
+                    return null;
+                }
+                if (c != '\r')
+                    rest.write(c);
+            }
+            lineEnded = true;
+            return rest;
+        }
+    }
+
+    // Buffer the solver reads in place (no toByteArray() copy)
+    private static final class LineBuffer extends ByteArrayOutputStream {
+        InputStream input() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+
+    // ---------------------------------------------------------
+    // 🧮 Solving (runs on a request thread)
+    // ---------------------------------------------------------
+    private String solve(String command, FastReader reader, RequestBudget budget) {
+        switch (command) {
+            case "fib": {
+                long n = reader.nextLong();
+                if (n < 0)
+                    throw new IllegalArgumentException("n must be non-negative");
+                // F(n) has ≈ 0.695 n bits; fast doubling keeps a few such numbers alive
+                checkBudget(n / 8 * 4, "F(" + n + ")");
+                long maxN = Math.min(timeoutMillis, Long.MAX_VALUE / FIB_N_PER_MILLI) * FIB_N_PER_MILLI;
+                if (n > maxN)
+                    throw new IllegalArgumentException("F(" + n + ") can't be printed within the " + timeoutMillis
+                            + " ms time budget (n ≤ " + maxN + ")");
+                BigInteger result = ASS1_Fibonacci.fibonacciFastDoubling(n, budget);
+                budget.checkDeadline();
+                return result.toString();
+            }
+            case "fibmod": {
+                long n = reader.nextLong();
+                long m = reader.nextLong();
+                if (n < 0 || m <= 0)
+                    throw new IllegalArgumentException("need n ≥ 0 and m > 0");
+                // a new modulus may build (and cache) its table of F(0..π-1) mod m, π(m) ≤ 6m
+                checkBudget(Math.min(PisanoFibonacci.TABLE_LIMIT, Math.min(m, Long.MAX_VALUE / 6) * 6) * Long.BYTES,
+                        "Pisano table for mod " + m);
+                return Long.toString(PisanoFibonacci.fibonacci(n, m)); // period cached per modulus
+            }
+            case "jobs": {
+                int n = count(reader, 48, "jobs");
+                JobBatch batch = new JobBatch(n);
+                for (int i = 0; i < n; i++) {
+                    int deadline = reader.nextInt();
+                    int profit = reader.nextInt();
+                    batch.add(i, deadline, profit);
+                }
+                JobBatch.Schedule schedule = batch.schedule(budget);
+                return "profit=" + schedule.totalProfit + " jobs=" + schedule.countJobs;
+            }
+            case "fractional": {
+                int n = count(reader, 40, "items");
+                Item[] items = new Item[n];
+                for (int i = 0; i < n; i++) {
+                    int weight = reader.nextInt();
+                    int profit = reader.nextInt();
+                    items[i] = new Item(weight, profit);
+                }
+                int capacity = reader.nextInt();
+                return Double.toString(ASS3_FractionalKnapsackGreedy.getMaxProfit(items, capacity, budget));
+            }
+            case "knapsack": {
+                int n = count(reader, 8, "items");
+                int val[] = new int[n];
+                int wt[] = new int[n];
+                for (int i = 0; i < n; i++) {
+                    val[i] = reader.nextInt();
+                    wt[i] = reader.nextInt();
+                }
+                long W = reader.nextLong();
+                if (W >= 0 && W < Integer.MAX_VALUE && (W + 1) * Long.BYTES <= memoryBudgetBytes)
+                    return Long.toString(ASS4_01KnapsackDP.knapSackRolling((int) W, wt, val, n, budget));
+                if (n <= KnapsackMeetInTheMiddle.MAX_ITEMS) {
+                    checkBudget(4L * Long.BYTES << ((n + 1) / 2), "meet-in-the-middle");
+                    return Long.toString(KnapsackMeetInTheMiddle.solve(W, wt, val, n).profit);
+                }
+                KnapsackBranchAndBound.Result result =
+                        new KnapsackBranchAndBound(KnapsackBranchAndBound.nodeBudget(memoryBudgetBytes), timeoutMillis).solve(W, wt, val, n);
+                return result.solution.profit + (result.optimal ? "" : " (best found within budget)");
+            }
+            default:
+                throw new IllegalArgumentException("unknown command '" + command
+                        + "' (fib, fibmod, jobs, fractional, knapsack, stats)");
+        }
+    }
+
+    // Reads the element count and checks the arrays for it fit the memory budget
+    private int count(FastReader reader, int bytesPerElement, String what) {
+        int n = reader.nextInt();
+        if (n < 0)
+            throw new IllegalArgumentException("negative number of " + what);
+        checkBudget((long) n * bytesPerElement, n + " " + what);
+        return n;
+    }
+
+    private void checkBudget(long bytes, String what) {
+        if (bytes > memoryBudgetBytes) {
+            throw new IllegalArgumentException(what + " needs ~" + bytes / (1 << 20) + " MB, request budget is "
+                    + memoryBudgetBytes / (1 << 20) + " MB");
+        }
+    }
+
+    // 🔹 Metrics that stop the solver once the request's deadline has passed
+    private static final class RequestBudget extends RunMetrics {
+        private final long deadlineNanos;
+        private int untilCheck = 1024;
+
+        RequestBudget(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public void call(int depth) {
+            super.call(depth);
+            tick();
+        }
+
+        @Override
+        public void iteration() {
+            super.iteration();
+            tick();
+        }
+
+        @Override
+        public void iterations(long count) {
+            super.iterations(count);
+            checkDeadline(); // bulk reports are one row of work → check every time
+        }
+
+        private void tick() {
+            if (--untilCheck == 0) {
+                untilCheck = 1024;
+                checkDeadline();
+            }
+        }
+
+        void checkDeadline() {
+            if (System.nanoTime() > deadlineNanos || Thread.currentThread().isInterrupted())
+                throw new IllegalStateException("time budget exceeded");
+        }
+    }
+
+    // ---------------------------------------------------------
+    // 📊 Latency + throughput
+    // ---------------------------------------------------------
+    String stats() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return "requests=" + requests.sum()
+                + " completed=" + completed.sum()
+                + " rejected=" + rejected.sum()
+                + " failed=" + failed.sum()
+                + " p50=" + latency.percentile(0.50) + "us"
+                + " p99=" + latency.percentile(0.99) + "us"
+                + " throughput=" + String.format("%.1f", completed.sum() / seconds) + "/s"
+                + " threads=" + (virtualThreads ? "virtual" : "platform");
+    }
+
+    // 🔹 Log-bucketed histogram of microsecond latencies
+    // Each power of two is cut into 8 sub-buckets → percentiles within 12.5%,
+    // fixed memory, and recording is one atomic increment (no lock, no list).
+    static final class LatencyHistogram {
+        private static final int SUB_BITS = 3;
+        private final AtomicLongArray counts = new AtomicLongArray(64 << SUB_BITS);
+
+        void record(long micros) {
+            counts.incrementAndGet(bucketOf(Math.max(0, micros)));
+        }
+
+        // Upper bound of the bucket holding the q-th fraction of samples
+        long percentile(double q) {
+            long total = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                total += counts.get(i);
+            }
+            if (total == 0)
+                return 0;
+            long rank = (long) Math.ceil(q * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                seen += counts.get(i);
+                if (seen >= rank)
+                    return upperBound(i);
+            }
+            return upperBound(counts.length() - 1);
+        }
+
+        private static int bucketOf(long value) {
+            if (value < (1 << SUB_BITS))
+                return (int) value; // small values get exact buckets
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BITS)) & ((1 << SUB_BITS) - 1);
+            return ((exponent - SUB_BITS + 1) << SUB_BITS) + sub;
+        }
+
+        private static long upperBound(int bucket) {
+            if (bucket < (1 << SUB_BITS))
+                return bucket;
+            int exponent = (bucket >>> SUB_BITS) + SUB_BITS - 1;
+            long sub = bucket & ((1 << SUB_BITS) - 1);
+            return ((1L << SUB_BITS) + sub + 1 << (exponent - SUB_BITS)) - 1;
+        }
+    }
+
+    // ---------------------------------------------------------
+    // 🧵 Threads
+    // ---------------------------------------------------------
+
+    // Executors.newVirtualThreadPerTaskExecutor() if this JDK has it, else null.
+    // Looked up reflectively so the file still compiles and runs on JDK 17.
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static Thread daemon(Runnable task) {
+        Thread thread = new Thread(task, "solver-service");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    // Value after "--name" in args, or the default
+    private static long option(String[] args, String name, long defaultValue) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(name))
+                return Long.parseLong(args[i + 1]);
+        }
+        return defaultValue;
+    }
+
+    // java SolverService [--port 7070] [--workers N] [--queue 64] [--timeout-ms 2000] [--memory-mb 64]
+    // then e.g.:  echo "knapsack 3 60 10 100 20 120 30 50" | nc 127.0.0.1 7070
+    public static void main(String[] args) throws IOException {
+        int port = (int) option(args, "--port", 7070);
+        int workers = (int) option(args, "--workers", Runtime.getRuntime().availableProcessors());
+        int queue = (int) option(args, "--queue", 64);
+        long timeoutMillis = option(args, "--timeout-ms", 2_000);
+        long memoryBytes = option(args, "--memory-mb", 64) << 20;
+
+        try (SolverService service = new SolverService(port, workers, queue, timeoutMillis, memoryBytes)) {
+            System.out.println("🔹 Solver service on 127.0.0.1:" + service.port()
+                    + " (" + (service.usesVirtualThreads() ? "virtual threads" : workers + " platform threads")
+                    + ", " + (workers + queue) + " requests in flight max)");
+            service.serve();
+        }
+    }
+}
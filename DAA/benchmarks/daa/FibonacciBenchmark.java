@@ -0,0 +1,127 @@
+package daa;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ⏱️ ASS1_Fibonacci engines: recursive / iterative / fast doubling / modular / batch / cache
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FibonacciBenchmark {
+
+    // n small enough for the int methods (and the exponential recursion)
+    @State(Scope.Benchmark)
+    public static class Small {
+        @Param({ "20", "30" })
+        public int smallN;
+    }
+
+    // n where only the BigInteger engine makes sense
+    @State(Scope.Benchmark)
+    public static class Large {
+        @Param({ "10000", "1000000" })
+        public long largeN;
+    }
+
+    // Many queries at once (batch sweep / shared cache)
+    @State(Scope.Benchmark)
+    public static class Queries {
+        @Param({ "100000" })
+        public int queryCount;
+
+        @Param({ "UNIFORM", "CLUSTERED" })
+        public Inputs.Distribution distribution;
+
+        long[] queries;
+        long[] hugeQueries;   // n up to 10^18 for the modular engines
+        long[] modularOut;
+        FibonacciCache cache;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            queries = Inputs.queries(queryCount, 5_000, distribution);
+            hugeQueries = Inputs.queries(queryCount, 1_000_000_000_000_000_000L, distribution);
+            modularOut = new long[queryCount];
+        }
+
+        @Setup(Level.Iteration)
+        public void freshCache() {
+            cache = new FibonacciCache(1 << 12);
+        }
+    }
+
+    @Benchmark
+    public int recursive(Small state) {
+        return ASS1_Fibonacci.fibonacciRecursive(state.smallN);
+    }
+
+    @Benchmark
+    public int iterative(Small state) {
+        return ASS1_Fibonacci.fibonacciIterative(state.smallN);
+    }
+
+    @Benchmark
+    public BigInteger fastDoublingSmall(Small state) {
+        return ASS1_Fibonacci.fibonacciFastDoubling(state.smallN);
+    }
+
+    @Benchmark
+    public BigInteger fastDoubling(Large state) {
+        return ASS1_Fibonacci.fibonacciFastDoubling(state.largeN);
+    }
+
+    @Benchmark
+    public long modular(Large state) {
+        return ASS1_Fibonacci.fibonacciMod(state.largeN * 1_000_000_000_000L, 1_000_000_007L);
+    }
+
+    @Benchmark
+    public long modularLoop(Queries state) {
+        long sum = 0;
+        for (long n : state.hugeQueries) {
+            sum += ASS1_Fibonacci.fibonacciMod(n, 1_000_000_007L);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long[] pisanoPrime(Queries state) {
+        PisanoFibonacci.forModulus(1_000_000_007L).getAll(state.hugeQueries, state.modularOut);
+        return state.modularOut;
+    }
+
+    @Benchmark
+    public long[] pisanoTable(Queries state) {
+        PisanoFibonacci.forModulus(100_000L).getAll(state.hugeQueries, state.modularOut); // π = 150000 → table
+        return state.modularOut;
+    }
+
+    @Benchmark
+    public BigInteger[] batch(Queries state) {
+        return ASS1_Fibonacci.fibonacciBatch(state.queries);
+    }
+
+    @Benchmark
+    public long cached(Queries state) {
+        long bits = 0;
+        for (long n : state.queries) {
+            bits += state.cache.get(n).bitLength();
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,115 @@
+package daa;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ⏱️ ASS3_FractionalKnapsackGreedy engines: sort / linear select / prepared index / dynamic treap
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FractionalKnapsackBenchmark {
+
+    @Param({ "10000", "1000000" })
+    public int size;
+
+    @Param({ "UNIFORM", "CORRELATED", "CLUSTERED" })
+    public Inputs.Distribution distribution;
+
+    Item[] items;
+    int capacity;             // half of the total weight → split item in the middle
+    long[] capacities;        // 1000 capacity queries for the bulk API
+    FractionalKnapsackIndex index;
+    DynamicFractionalKnapsack dynamic; // read-only: dynamicQuery measures the original prices
+    SplittableRandom random;
+
+    // Its own treap and random for dynamicReprice, so repricing never changes
+    // the tree dynamicQuery measures
+    @State(Scope.Benchmark)
+    public static class Repricing {
+        DynamicFractionalKnapsack dynamic;
+        SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void generate(FractionalKnapsackBenchmark base) {
+            random = Inputs.random(~base.size);
+            dynamic = new DynamicFractionalKnapsack();
+            for (int i = 0; i < base.items.length; i++) {
+                dynamic.put(i, base.items[i].weight, base.items[i].profit);
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void generate() {
+        items = Inputs.itemObjects(size, 1_000, distribution);
+        long total = 0;
+        for (Item item : items) {
+            total += item.weight;
+        }
+        capacity = (int) Math.min(Integer.MAX_VALUE, total / 2);
+
+        random = Inputs.random(size);
+        capacities = new long[1_000];
+        for (int i = 0; i < capacities.length; i++) {
+            capacities[i] = random.nextLong(total + 1);
+        }
+        index = FractionalKnapsackIndex.of(items);
+        dynamic = new DynamicFractionalKnapsack();
+        for (int i = 0; i < items.length; i++) {
+            dynamic.put(i, items[i].weight, items[i].profit);
+        }
+    }
+
+    @Benchmark
+    public double sortBased() {
+        return ASS3_FractionalKnapsackGreedy.getMaxProfit(items.clone(), capacity);
+    }
+
+    @Benchmark
+    public double[] linearSelect() {
+        return ASS3_FractionalKnapsackGreedy.getFractions(items, capacity);
+    }
+
+    @Benchmark
+    public FractionalKnapsackIndex indexBuild() {
+        return FractionalKnapsackIndex.of(items);
+    }
+
+    @Benchmark
+    public double indexQuery() {
+        return index.maxProfit(random.nextLong(2L * capacity + 1));
+    }
+
+    @Benchmark
+    public double[] indexBulk() {
+        return index.maxProfits(capacities);
+    }
+
+    @Benchmark
+    public double dynamicQuery() {
+        return dynamic.maxProfit(random.nextLong(2L * capacity + 1));
+    }
+
+    @Benchmark
+    public double dynamicReprice(Repricing s) {
+        int i = s.random.nextInt(size);
+        s.dynamic.put(i, 1 + s.random.nextInt(1_000), 1 + s.random.nextInt(1_000_000));
+        return s.dynamic.maxProfit(capacity);
+    }
+}
@@ -0,0 +1,62 @@
+package daa;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ⏱️ Input parsing: FastReader vs the java.util.Scanner fallback on the same text
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InputBenchmark {
+
+    @Param({ "100000", "1000000" })
+    public int tokens;
+
+    byte[] text;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        SplittableRandom random = Inputs.random(tokens);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < tokens; i++) {
+            builder.append(random.nextInt(1_000_000_000)).append(i % 2 == 0 ? ' ' : '\n');
+        }
+        text = builder.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public long fastReader() {
+        return sum(FastReader.of(new ByteArrayInputStream(text)));
+    }
+
+    @Benchmark
+    public long scanner() {
+        return sum(FastReader.scanner(new ByteArrayInputStream(text)));
+    }
+
+    private long sum(FastReader reader) {
+        long sum = 0;
+        for (int i = 0; i < tokens; i++) {
+            sum += reader.nextInt();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,98 @@
+package daa;
+
+import java.util.SplittableRandom;
+
+// 🎲 Inputs — seeded input generators shared by all benchmarks
+// The same seed always gives the same input, so runs can be compared
+// across commits and across engines.
+public final class Inputs {
+
+    static final long SEED = 20251018L;
+
+    // How weights / profits / deadlines are spread
+    public enum Distribution {
+        UNIFORM,     // independent uniform values
+        CORRELATED,  // profit ≈ weight + noise (hard knapsack instances), tight deadlines
+        CLUSTERED    // few distinct values, many ties / repeats
+    }
+
+    private Inputs() {
+    }
+
+    static SplittableRandom random(long salt) {
+        return new SplittableRandom(SEED ^ salt);
+    }
+
+    // { weights, profits }, weights in [1, maxWeight]
+    static int[][] items(int n, int maxWeight, Distribution distribution) {
+        SplittableRandom random = random(n * 31L + maxWeight);
+        int[] weights = new int[n];
+        int[] profits = new int[n];
+        for (int i = 0; i < n; i++) {
+            switch (distribution) {
+                case CORRELATED:
+                    weights[i] = 1 + random.nextInt(maxWeight);
+                    profits[i] = weights[i] + random.nextInt(Math.max(1, maxWeight / 10));
+                    break;
+                case CLUSTERED:
+                    weights[i] = 1 + random.nextInt(8) * Math.max(1, maxWeight / 8);
+                    profits[i] = 1 + random.nextInt(8) * 100;
+                    break;
+                default:
+                    weights[i] = 1 + random.nextInt(maxWeight);
+                    profits[i] = 1 + random.nextInt(1_000_000);
+            }
+        }
+        return new int[][] { weights, profits };
+    }
+
+    static Item[] itemObjects(int n, int maxWeight, Distribution distribution) {
+        int[][] columns = items(n, maxWeight, distribution);
+        Item[] items = new Item[n];
+        for (int i = 0; i < n; i++) {
+            items[i] = new Item(columns[0][i], columns[1][i]);
+        }
+        return items;
+    }
+
+    // Jobs with deadlines in [1, n] (UNIFORM), [1, 64] (CORRELATED) or a few values (CLUSTERED)
+    static JobBatch jobs(int n, Distribution distribution) {
+        SplittableRandom random = random(n * 17L + distribution.ordinal());
+        JobBatch batch = new JobBatch(n);
+        for (int i = 0; i < n; i++) {
+            int deadline;
+            switch (distribution) {
+                case CORRELATED:
+                    deadline = 1 + random.nextInt(64);
+                    break;
+                case CLUSTERED:
+                    deadline = (1 + random.nextInt(4)) * Math.max(1, n / 4);
+                    break;
+                default:
+                    deadline = 1 + random.nextInt(n);
+            }
+            batch.add(i, deadline, random.nextInt(1_000_000));
+        }
+        return batch;
+    }
+
+    static Job[] jobObjects(JobBatch batch) {
+        Job[] jobs = new Job[batch.size()];
+        for (int i = 0; i < jobs.length; i++) {
+            jobs[i] = new Job((char) ('A' + i % 26), batch.deadline(i), (int) batch.profit(i));
+        }
+        return jobs;
+    }
+
+    // n query values in [0, maxN]; CLUSTERED repeats a few hot values
+    static long[] queries(int n, long maxN, Distribution distribution) {
+        SplittableRandom random = random(n * 13L + maxN);
+        long[] queries = new long[n];
+        for (int i = 0; i < n; i++) {
+            queries[i] = distribution == Distribution.CLUSTERED
+                    ? random.nextLong(16) * (maxN / 16)
+                    : random.nextLong(maxN + 1);
+        }
+        return queries;
+    }
+}
@@ -0,0 +1,81 @@
+package daa;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ⏱️ ASS2_JobSequencingGreedy engines: linear scan / disjoint set / columnar / parallel / online
+// Job[] benchmarks clone the array first because the solver sorts it in place.
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobSequencingBenchmark {
+
+    @Param({ "10000", "200000" })
+    public int size;
+
+    @Param({ "UNIFORM", "CORRELATED", "CLUSTERED" })
+    public Inputs.Distribution distribution;
+
+    JobBatch batch;
+    Job[] jobs;
+    ParallelJobScheduler parallel;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        batch = Inputs.jobs(size, distribution);
+        jobs = Inputs.jobObjects(batch);
+        parallel = new ParallelJobScheduler(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        parallel.close();
+    }
+
+    @Benchmark
+    public long linearScan() {
+        return ASS2_JobSequencingGreedy.scheduleJobs(jobs.clone(),
+                ASS2_JobSequencingGreedy.SlotFinder.LINEAR_SCAN, SolverMetrics.NONE).totalProfit;
+    }
+
+    @Benchmark
+    public long disjointSet() {
+        return ASS2_JobSequencingGreedy.scheduleJobs(jobs.clone(),
+                ASS2_JobSequencingGreedy.SlotFinder.DISJOINT_SET, SolverMetrics.NONE).totalProfit;
+    }
+
+    @Benchmark
+    public long columnar() {
+        return batch.schedule(SolverMetrics.NONE).totalProfit;
+    }
+
+    @Benchmark
+    public long parallel() {
+        return parallel.schedule(batch, SolverMetrics.NONE).totalProfit;
+    }
+
+    @Benchmark
+    public long online() {
+        OnlineJobScheduler online = new OnlineJobScheduler(size);
+        for (int i = 0; i < batch.size(); i++) {
+            online.offer(batch.id(i), batch.deadline(i), batch.profit(i));
+        }
+        return online.totalProfit();
+    }
+}
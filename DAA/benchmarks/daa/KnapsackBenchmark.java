@@ -0,0 +1,176 @@
+package daa;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// ⏱️ ASS4_01KnapsackDP engines, grouped by the input shape they are meant for
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KnapsackBenchmark {
+
+    // Capacity-indexed DP family: moderate n and W
+    @State(Scope.Benchmark)
+    public static class Table {
+        @Param({ "100", "400" })
+        public int items;
+
+        @Param({ "10000", "50000" })
+        public int capacity;
+
+        @Param({ "UNIFORM", "CORRELATED" })
+        public Inputs.Distribution distribution;
+
+        int[] wt;
+        int[] val;
+        int[] count; // stock per item for the bounded variant
+        PreparedKnapsack prepared;
+        PreparedKnapsack.Snapshot preparedAll;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            int[][] columns = Inputs.items(items, capacity / 10, distribution);
+            wt = columns[0];
+            val = columns[1];
+            java.util.SplittableRandom random = Inputs.random(items ^ capacity);
+            count = new int[items];
+            for (int i = 0; i < items; i++) {
+                count[i] = 1 + random.nextInt(1_000);
+            }
+            prepared = PreparedKnapsack.of(capacity, wt, val, items);
+            preparedAll = prepared.snapshot();
+        }
+    }
+
+    // Huge W, few items: meet-in-the-middle / branch and bound / auto selector
+    @State(Scope.Benchmark)
+    public static class HugeCapacity {
+        @Param({ "30", "40" })
+        public int fewItems;
+
+        @Param({ "UNIFORM", "CORRELATED" })
+        public Inputs.Distribution hugeDistribution;
+
+        int[] wt;
+        int[] val;
+        long W;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            int[][] columns = Inputs.items(fewItems, 1_000_000_000, hugeDistribution);
+            wt = columns[0];
+            val = columns[1];
+            for (int w : wt) {
+                W += w;
+            }
+            W /= 2;
+        }
+    }
+
+    // Huge W, small total profit: profit-indexed DP and FPTAS
+    @State(Scope.Benchmark)
+    public static class SmallProfit {
+        @Param({ "200", "1000" })
+        public int profitItems;
+
+        int[] wt;
+        int[] val;
+        long W;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            java.util.SplittableRandom random = Inputs.random(profitItems);
+            wt = new int[profitItems];
+            val = new int[profitItems];
+            for (int i = 0; i < profitItems; i++) {
+                wt[i] = 1 + random.nextInt(1_000_000_000);
+                val[i] = 1 + random.nextInt(1_000);
+                W += wt[i];
+            }
+            W /= 2;
+        }
+    }
+
+    @Benchmark
+    public int table2D(Table s) {
+        return ASS4_01KnapsackDP.knapSack(s.capacity, s.wt, s.val, s.items);
+    }
+
+    @Benchmark
+    public long rolling(Table s) {
+        return ASS4_01KnapsackDP.knapSackRolling(s.capacity, s.wt, s.val, s.items);
+    }
+
+    @Benchmark
+    public long parallelRows(Table s) {
+        return ASS4_01KnapsackDP.knapSackParallel(s.capacity, s.wt, s.val, s.items);
+    }
+
+    @Benchmark
+    public KnapsackSolution withItems(Table s) {
+        return ASS4_01KnapsackDP.knapSackWithItems(s.capacity, s.wt, s.val, s.items);
+    }
+
+    @Benchmark
+    public long bounded(Table s) {
+        return ASS4_01KnapsackDP.knapSackBounded(s.capacity, s.wt, s.val, s.count, s.items);
+    }
+
+    @Benchmark
+    public long unbounded(Table s) {
+        return ASS4_01KnapsackDP.knapSackUnbounded(s.capacity, s.wt, s.val, s.items);
+    }
+
+    // One what-if item on top of the prepared row, then back: O(W), not O(n * W)
+    @Benchmark
+    public long preparedAppend(Table s) {
+        s.prepared.add(s.wt[0], s.val[0]);
+        long profit = s.prepared.maxProfit(s.capacity);
+        s.prepared.restore(s.preparedAll);
+        return profit;
+    }
+
+    @Benchmark
+    public int bitsetSubsetSum(Table s) {
+        return ASS4_01KnapsackDP.maxReachableWeight(s.capacity, s.wt, s.items);
+    }
+
+    @Benchmark
+    public KnapsackBranchAndBound.Result branchAndBound(HugeCapacity s) {
+        return new KnapsackBranchAndBound(1_000_000, 1_000).solve(s.W, s.wt, s.val, s.fewItems);
+    }
+
+    @Benchmark
+    public KnapsackSolution meetInTheMiddle(HugeCapacity s) {
+        return KnapsackMeetInTheMiddle.solve(s.W, s.wt, s.val, s.fewItems);
+    }
+
+    @Benchmark
+    public KnapsackBranchAndBound.Result auto(HugeCapacity s) {
+        return ASS4_01KnapsackDP.knapSackAuto(s.W, s.wt, s.val, s.fewItems);
+    }
+
+    @Benchmark
+    public long byProfit(SmallProfit s) {
+        return ASS4_01KnapsackDP.knapSackByProfit(s.W, s.wt, s.val, s.profitItems);
+    }
+
+    @Benchmark
+    public long fptas(SmallProfit s) {
+        return ASS4_01KnapsackDP.knapSackApprox(s.W, s.wt, s.val, s.profitItems, 0.1);
+    }
+}